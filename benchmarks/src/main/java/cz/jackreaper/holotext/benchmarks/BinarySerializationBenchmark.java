@@ -0,0 +1,71 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import cz.jackreaper.holotext.storage.BinaryHologramCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code holograms.bin} encoding and memory-mapped decoding as done by the binary store,
+ * on the same data set as {@link YamlSerializationBenchmark} for a direct comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinarySerializationBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int holograms;
+
+    private List<HologramDefinition> defs;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        defs = YamlSerializationBenchmark.generate(holograms, new Random(42L));
+        file = Files.createTempFile("holograms", ".bin");
+        Files.write(file, BinaryHologramCodec.encode(defs));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Encode the full snapshot, as a coalesced flush does.
+     */
+    @Benchmark
+    public byte[] encode() {
+        return BinaryHologramCodec.encode(defs);
+    }
+
+    /**
+     * Map and decode the full snapshot, as {@code loadAll} does off the main thread.
+     */
+    @Benchmark
+    public Map<String, HologramDefinition> decode() throws IOException {
+        return BinaryHologramCodec.readFile(file);
+    }
+}
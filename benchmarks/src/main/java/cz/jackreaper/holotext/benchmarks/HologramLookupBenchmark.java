@@ -0,0 +1,74 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import cz.jackreaper.holotext.hologram.Hologram;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Name normalization and hologram lookup by name, as every command and API call does first.
+ * Lookups use mixed-case names in a fixed pseudo-random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HologramLookupBenchmark {
+    @Param({"1000", "10000"})
+    public int holograms;
+
+    private MockServer mock;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mock = new MockServer();
+        for (int i = 0; i < holograms; i++) {
+            mock.manager.create("Holo_" + i, new Location(mock.world, (i % 100) * 16 + 0.5, 70, (i / 100) * 16 + 0.5),
+                    List.of("&aHologram " + i), true);
+        }
+        mock.tick();
+        Random random = new Random(42L);
+        queries = new String[4096];
+        for (int i = 0; i < queries.length; i++) queries[i] = "HOLO_" + random.nextInt(holograms);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mock.close();
+    }
+
+    @Benchmark
+    public String normalize() {
+        return nextQuery().toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public Optional<Hologram> lookup() {
+        return mock.manager.get(nextQuery());
+    }
+
+    private String nextQuery() {
+        return queries[next++ & (queries.length - 1)];
+    }
+}
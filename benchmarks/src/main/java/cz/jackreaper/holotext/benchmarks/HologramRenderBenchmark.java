@@ -0,0 +1,84 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spawn and refresh paths against a MockBukkit world: creating and deleting a hologram
+ * (entity spawn, persistence bookkeeping, removal) and updating the text of a spawned one,
+ * with one changed line or none.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HologramRenderBenchmark {
+    /** TextDisplay lines ({@code true}) or ArmorStand nameplates ({@code false}). */
+    @Param({"true", "false"})
+    public boolean staticRotation;
+
+    @Param({"1", "4"})
+    public int lines;
+
+    private MockServer mock;
+    private Location location;
+    private List<String> textA;
+    private List<String> textB;
+    private boolean flip;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mock = new MockServer();
+        location = new Location(mock.world, 0.5, 70, 0.5);
+        textA = new ArrayList<>();
+        for (int i = 0; i < lines; i++) textA.add("&eLine " + i);
+        textB = new ArrayList<>(textA);
+        textB.set(lines - 1, "&6Line " + (lines - 1) + " changed");
+        mock.manager.create("refresh", location, textA, staticRotation);
+    }
+
+    @TearDown(Level.Iteration)
+    public void drain() {
+        mock.tick();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mock.close();
+    }
+
+    @Benchmark
+    public boolean spawnAndDelete() {
+        mock.manager.create("spawn", location, textA, staticRotation);
+        return mock.manager.delete("spawn");
+    }
+
+    @Benchmark
+    public boolean refreshChangedLine() {
+        flip = !flip;
+        return mock.manager.updateText("refresh", flip ? textB : textA);
+    }
+
+    @Benchmark
+    public boolean refreshUnchanged() {
+        return mock.manager.updateText("refresh", textA);
+    }
+}
@@ -0,0 +1,35 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import cz.jackreaper.holotext.hologram.HologramManager;
+import org.bukkit.World;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.plugin.MockPlugin;
+
+/**
+ * MockBukkit server with one world and a {@link HologramManager} using the default configuration.
+ */
+final class MockServer {
+    final ServerMock server;
+    final World world;
+    final HologramManager manager;
+
+    MockServer() {
+        this.server = MockBukkit.mock();
+        MockPlugin plugin = MockBukkit.createMockPlugin("HoloText");
+        this.world = server.addSimpleWorld("world");
+        this.manager = new HologramManager(plugin);
+    }
+
+    /**
+     * Run the scheduled work (snapshot publishing, storage flush) so it does not pile up between iterations.
+     */
+    void tick() {
+        server.getScheduler().performOneTick();
+    }
+
+    void close() {
+        manager.shutdown();
+        MockBukkit.unmock();
+    }
+}
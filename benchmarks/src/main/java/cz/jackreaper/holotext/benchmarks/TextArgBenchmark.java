@@ -0,0 +1,47 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import cz.jackreaper.holotext.hologram.HologramManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command text parsing ({@link HologramManager#parseTextArg(String)}). Needs no server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TextArgBenchmark {
+    @Param({"single", "typical", "long"})
+    public String shape;
+
+    private String raw;
+
+    @Setup
+    public void setup() {
+        raw = switch (shape) {
+            case "single" -> "&aWelcome to the server";
+            case "typical" -> "&6&lSHOP | &7Buy and sell items |  | &eRight-click the NPC ";
+            default -> "&fLine ".repeat(8).concat("| ").repeat(32);
+        };
+    }
+
+    @Benchmark
+    public List<String> parseTextArg() {
+        return HologramManager.parseTextArg(raw);
+    }
+}
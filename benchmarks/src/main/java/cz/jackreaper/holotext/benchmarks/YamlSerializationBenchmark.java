@@ -0,0 +1,92 @@
+package cz.jackreaper.holotext.benchmarks;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import cz.jackreaper.holotext.storage.YamlHologramCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * {@code holograms.yml} encoding and decoding as done by the YAML store when
+ * {@code saveOne}/{@code saveAll} changes are flushed and when holograms are loaded.
+ * Needs no server; the data set is generated from a fixed seed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class YamlSerializationBenchmark {
+    @Param({"1000", "10000", "100000"})
+    public int holograms;
+
+    private List<HologramDefinition> defs;
+    private Path file;
+    private final Logger logger = Logger.getLogger("HoloTextBenchmark");
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        defs = generate(holograms, new Random(42L));
+        file = Files.createTempFile("holograms", ".yml");
+        Files.writeString(file, YamlHologramCodec.writeString(defs), StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Serialize the full document, as a coalesced flush does.
+     */
+    @Benchmark
+    public String encode() {
+        return YamlHologramCodec.writeString(defs);
+    }
+
+    /**
+     * Parse and decode the full document, as {@code loadAll} does off the main thread.
+     */
+    @Benchmark
+    public Map<String, HologramDefinition> decode() throws IOException {
+        return YamlHologramCodec.readFile(file, logger);
+    }
+
+    static List<HologramDefinition> generate(int count, Random random) {
+        List<HologramDefinition> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int lineCount = 1 + random.nextInt(4);
+            List<String> lines = new ArrayList<>(lineCount);
+            for (int l = 0; l < lineCount; l++) lines.add("&" + Integer.toHexString(random.nextInt(16)) + "Line " + l + " of hologram " + i);
+            List<UUID> ids = new ArrayList<>(lineCount);
+            for (int l = 0; l < lineCount; l++) ids.add(new UUID(random.nextLong(), random.nextLong()));
+            out.add(new HologramDefinition("Holo_" + i, "world",
+                    random.nextInt(20000) - 10000 + 0.5, 64 + random.nextInt(64), random.nextInt(20000) - 10000 + 0.5,
+                    random.nextFloat() * 360f - 180f, 0f, lines, random.nextBoolean(), ids));
+        }
+        return out;
+    }
+}
@@ -1,7 +1,9 @@
 package cz.jackreaper.holotext;
 
 import cz.jackreaper.holotext.command.HoloCommand;
+import cz.jackreaper.holotext.hologram.HologramChunkListener;
 import cz.jackreaper.holotext.hologram.HologramManager;
+import cz.jackreaper.holotext.visibility.VisibilityListener;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -21,9 +23,13 @@ public class HoloTextPlugin extends JavaPlugin {
     @Override
     public void onEnable() {
         instance = this;
-        // No config defaults: data folder creation handled by HologramManager
+        saveDefaultConfig();
         this.hologramManager = new HologramManager(this);
-        this.hologramManager.loadAll();
+        this.hologramManager.loadAll().thenAccept(loaded -> getLogger().info("Holograms loaded: " + loaded));
+        if (hologramManager.isLazySpawning()) {
+            getServer().getPluginManager().registerEvents(new HologramChunkListener(hologramManager), this);
+        }
+        getServer().getPluginManager().registerEvents(new VisibilityListener(hologramManager.getVisibility()), this);
 
         // Register command executor and tab completer
         HoloCommand holoCommand = new HoloCommand(this.hologramManager);
@@ -31,13 +37,14 @@ public class HoloTextPlugin extends JavaPlugin {
             getCommand("holo").setExecutor(holoCommand);
             getCommand("holo").setTabCompleter(holoCommand);
         }
-        getLogger().info("HoloText enabled. Holograms loaded: " + hologramManager.size());
+        getLogger().info("HoloText enabled.");
     }
 
     @Override
     public void onDisable() {
         if (hologramManager != null) {
-            hologramManager.saveAll();
+            // Final synchronous flush: the server may exit right after this returns
+            hologramManager.shutdown();
         }
         getLogger().info("HoloText disabled.");
     }
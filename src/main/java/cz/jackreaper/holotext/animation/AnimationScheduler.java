@@ -0,0 +1,134 @@
+package cz.jackreaper.holotext.animation;
+
+import cz.jackreaper.holotext.hologram.Hologram;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Drives every line animation from a single task.
+ *
+ * <p>The current frame of each line is derived from one global tick counter, so no
+ * per-hologram frame state exists and nothing about animations is persisted. On a tick
+ * where some line of a hologram changes frame, the hologram is handed to the refresh
+ * callback, which updates only the line entities whose text changed. Holograms without a
+ * player within the viewer radius are skipped; the refresh callback itself skips holograms
+ * that are not spawned or whose chunk is unloaded. Main thread only.
+ */
+public class AnimationScheduler {
+    private final Plugin plugin;
+    private final Function<String, Hologram> lookup;
+    private final Consumer<String> refresher;
+    private final double viewerRadiusSquared;
+    // hologram key -> line index -> animation
+    private final Map<String, Map<Integer, LineAnimation>> animations = new HashMap<>();
+    private BukkitTask task;
+    private long tick;
+
+    /**
+     * @param plugin owning plugin
+     * @param lookup resolves a lower-case key to the tracked hologram
+     * @param refresher re-renders a hologram by lower-case key
+     * @param viewerRadius players farther away than this do not keep an animation running ({@code 0} = no limit)
+     */
+    public AnimationScheduler(Plugin plugin, Function<String, Hologram> lookup, Consumer<String> refresher, double viewerRadius) {
+        this.plugin = plugin;
+        this.lookup = lookup;
+        this.refresher = refresher;
+        this.viewerRadiusSquared = viewerRadius > 0 ? viewerRadius * viewerRadius : 0;
+    }
+
+    /**
+     * Start the animation task.
+     */
+    public void start() {
+        if (task == null) task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stop the animation task.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Set or clear the animation of one line.
+     * @param key lower-case hologram key
+     * @param line zero-based line index
+     * @param animation frames to cycle, or {@code null} to show the line's own text again
+     */
+    public void set(String key, int line, LineAnimation animation) {
+        if (animation != null) {
+            animations.computeIfAbsent(key, k -> new HashMap<>()).put(line, animation);
+        } else {
+            Map<Integer, LineAnimation> lines = animations.get(key);
+            if (lines == null) return;
+            lines.remove(line);
+            if (lines.isEmpty()) animations.remove(key);
+        }
+    }
+
+    /**
+     * Drop all animations of a hologram.
+     * @param key lower-case hologram key
+     * @return true if it had any
+     */
+    public boolean forget(String key) {
+        return animations.remove(key) != null;
+    }
+
+    /**
+     * Substitute the current frame for every animated line.
+     * @param key lower-case hologram key
+     * @param lines lines before animation
+     * @return {@code lines} itself if the hologram has no animations, otherwise a new list
+     */
+    public List<String> apply(String key, List<String> lines) {
+        Map<Integer, LineAnimation> lineAnimations = animations.get(key);
+        if (lineAnimations == null) return lines;
+        List<String> out = new ArrayList<>(lines);
+        for (Map.Entry<Integer, LineAnimation> e : lineAnimations.entrySet()) {
+            int index = e.getKey();
+            if (index < out.size()) out.set(index, e.getValue().frameAt(tick));
+        }
+        return out;
+    }
+
+    private void tick() {
+        tick++;
+        if (animations.isEmpty()) return;
+        List<String> due = new ArrayList<>();
+        for (Map.Entry<String, Map<Integer, LineAnimation>> e : animations.entrySet()) {
+            for (LineAnimation animation : e.getValue().values()) {
+                if (animation.advancesAt(tick)) {
+                    due.add(e.getKey());
+                    break;
+                }
+            }
+        }
+        for (String key : due) {
+            Hologram holo = lookup.apply(key);
+            if (holo != null && hasViewer(holo.getLocation())) refresher.accept(key);
+        }
+    }
+
+    private boolean hasViewer(Location loc) {
+        World world = loc.getWorld();
+        if (world == null) return false;
+        for (Player player : world.getPlayers()) {
+            if (viewerRadiusSquared == 0 || player.getLocation().distanceSquared(loc) <= viewerRadiusSquared) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package cz.jackreaper.holotext.animation;
+
+import java.util.List;
+
+/**
+ * Frames shown in turn on one hologram line.
+ *
+ * @param frames raw line texts; color codes and placeholders are supported
+ * @param intervalTicks ticks each frame is shown
+ */
+public record LineAnimation(List<String> frames, long intervalTicks) {
+
+    public LineAnimation {
+        if (frames.isEmpty()) throw new IllegalArgumentException("An animation needs at least one frame");
+        frames = List.copyOf(frames);
+        intervalTicks = Math.max(1L, intervalTicks);
+    }
+
+    /**
+     * @param tick global animation tick
+     * @return frame shown at that tick
+     */
+    public String frameAt(long tick) {
+        return frames.get((int) ((tick / intervalTicks) % frames.size()));
+    }
+
+    /**
+     * @param tick global animation tick
+     * @return true if a different frame starts at that tick
+     */
+    boolean advancesAt(long tick) {
+        return frames.size() > 1 && tick % intervalTicks == 0;
+    }
+}
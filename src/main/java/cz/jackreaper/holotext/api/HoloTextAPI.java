@@ -1,13 +1,29 @@
 package cz.jackreaper.holotext.api;
 
 import cz.jackreaper.holotext.HoloTextPlugin;
+import cz.jackreaper.holotext.animation.LineAnimation;
+import cz.jackreaper.holotext.datasource.DataSource;
 import cz.jackreaper.holotext.hologram.Hologram;
 import cz.jackreaper.holotext.hologram.HologramManager;
+import cz.jackreaper.holotext.hologram.HologramSnapshot;
+import cz.jackreaper.holotext.hologram.HologramSpec;
+import cz.jackreaper.holotext.visibility.ViewRule;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * Public API for interacting with HoloText holograms from other plugins.
@@ -15,6 +31,12 @@ import java.util.Set;
  * <p>Add HoloText as a dependency in {@code plugin.yml} and call these
  * static methods to create, query, move, update, and delete holograms.
  * All operations delegate to the running plugin's {@link HologramManager}.
+ *
+ * <p>Threading: read methods may be called from any thread and always return detached
+ * copies. On the main thread they copy the live state; elsewhere they read the latest
+ * {@link HologramSnapshot} (at most one tick old) without locking. Mutations that
+ * return {@code boolean} must run on the main thread; their {@code *Async} variants may be
+ * called from anywhere, run on the main thread, and complete there.
  */
 public final class HoloTextAPI {
     private HoloTextAPI() {}
@@ -23,6 +45,31 @@ public final class HoloTextAPI {
         return HoloTextPlugin.getInstance().getHologramManager();
     }
 
+    private static HologramManager managerOnMainThread(String method) {
+        if (!Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException("HoloTextAPI." + method + " must be called on the main thread.");
+        }
+        return manager();
+    }
+
+    private static <T> CompletableFuture<T> onMainThread(Supplier<T> action) {
+        if (Bukkit.isPrimaryThread()) {
+            try {
+                return CompletableFuture.completedFuture(action.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        HoloTextPlugin plugin = HoloTextPlugin.getInstance();
+        return CompletableFuture.supplyAsync(action, plugin.getServer().getScheduler().getMainThreadExecutor(plugin));
+    }
+
+    private static List<Hologram> detached(List<Hologram> live) {
+        List<Hologram> copies = new ArrayList<>(live.size());
+        for (Hologram holo : live) copies.add(HologramSnapshot.detach(holo));
+        return copies;
+    }
+
     // Removed non-boolean overload: callers must specify staticRotation explicitly
 
     /**
@@ -31,7 +78,16 @@ public final class HoloTextAPI {
      * @return true if the hologram existed and was deleted
      */
     public static boolean delete(String name) {
-        return manager().delete(name);
+        return managerOnMainThread("delete").delete(name);
+    }
+
+    /**
+     * Delete a hologram by name from any thread.
+     * @param name hologram name
+     * @return future completing with true if the hologram existed and was deleted
+     */
+    public static CompletableFuture<Boolean> deleteAsync(String name) {
+        return onMainThread(() -> manager().delete(name));
     }
 
     /**
@@ -41,7 +97,18 @@ public final class HoloTextAPI {
      * @return true if update succeeded
      */
     public static boolean updateText(String name, List<String> lines) {
-        return manager().updateText(name, lines);
+        return managerOnMainThread("updateText").updateText(name, lines);
+    }
+
+    /**
+     * Update text lines for an existing hologram from any thread.
+     * @param name hologram name
+     * @param lines new text lines (copied immediately)
+     * @return future completing with true if the update succeeded
+     */
+    public static CompletableFuture<Boolean> updateTextAsync(String name, List<String> lines) {
+        List<String> copy = List.copyOf(lines);
+        return onMainThread(() -> manager().updateText(name, copy));
     }
 
     /**
@@ -51,7 +118,18 @@ public final class HoloTextAPI {
      * @return true if move succeeded
      */
     public static boolean moveTo(String name, Location location) {
-        return manager().moveTo(name, location);
+        return managerOnMainThread("moveTo").moveTo(name, location);
+    }
+
+    /**
+     * Move a hologram to a new location from any thread.
+     * @param name hologram name
+     * @param location target world location (copied immediately)
+     * @return future completing with true if the move succeeded
+     */
+    public static CompletableFuture<Boolean> moveToAsync(String name, Location location) {
+        Location copy = location.clone();
+        return onMainThread(() -> manager().moveTo(name, copy));
     }
 
     /**
@@ -60,7 +138,7 @@ public final class HoloTextAPI {
      * @return optional hologram if present
      */
     public static Optional<Hologram> get(String name) {
-        return manager().get(name);
+        return Bukkit.isPrimaryThread() ? manager().get(name).map(HologramSnapshot::detach) : manager().snapshot().get(name);
     }
 
     /**
@@ -68,7 +146,27 @@ public final class HoloTextAPI {
      * @return set of hologram names
      */
     public static Set<String> names() {
-        return manager().names();
+        return Bukkit.isPrimaryThread() ? Set.copyOf(manager().names()) : manager().snapshot().names();
+    }
+
+    /**
+     * Find holograms near a location.
+     * @param center center location
+     * @param radius radius in blocks
+     * @return holograms whose base location is within {@code radius} of {@code center}
+     */
+    public static List<Hologram> nearby(Location center, double radius) {
+        return Bukkit.isPrimaryThread() ? detached(manager().nearby(center, radius)) : manager().snapshot().nearby(center, radius);
+    }
+
+    /**
+     * Find holograms inside a box.
+     * @param world world to search
+     * @param box axis-aligned box
+     * @return holograms whose base location lies inside {@code box}
+     */
+    public static List<Hologram> within(World world, BoundingBox box) {
+        return Bukkit.isPrimaryThread() ? detached(manager().within(world, box)) : manager().snapshot().within(world, box);
     }
 
     /**
@@ -80,7 +178,21 @@ public final class HoloTextAPI {
      * @return false if a hologram with the same name already exists
      */
     public static boolean create(String name, Location location, List<String> lines, boolean staticRotation) {
-        return manager().create(name, location, lines, staticRotation);
+        return managerOnMainThread("create").create(name, location, lines, staticRotation);
+    }
+
+    /**
+     * Create and spawn a new hologram from any thread.
+     * @param name unique name
+     * @param location spawn location (copied immediately)
+     * @param lines text lines (copied immediately)
+     * @param staticRotation true for fixed rotation, false for viewer-facing
+     * @return future completing with false if a hologram with the same name already exists
+     */
+    public static CompletableFuture<Boolean> createAsync(String name, Location location, List<String> lines, boolean staticRotation) {
+        Location loc = location.clone();
+        List<String> copy = List.copyOf(lines);
+        return onMainThread(() -> manager().create(name, loc, copy, staticRotation));
     }
 
     /**
@@ -91,6 +203,204 @@ public final class HoloTextAPI {
      * @return true if update succeeded
      */
     public static boolean update(String name, List<String> lines, boolean staticRotation) {
-        return manager().updateStaticAndText(name, lines, staticRotation);
+        return managerOnMainThread("update").updateStaticAndText(name, lines, staticRotation);
+    }
+
+    /**
+     * Update both text and rotation flag for a hologram from any thread.
+     * @param name hologram name
+     * @param lines new text lines (copied immediately)
+     * @param staticRotation rotation mode
+     * @return future completing with true if the update succeeded
+     */
+    public static CompletableFuture<Boolean> updateAsync(String name, List<String> lines, boolean staticRotation) {
+        List<String> copy = List.copyOf(lines);
+        return onMainThread(() -> manager().updateStaticAndText(name, copy, staticRotation));
+    }
+
+    /**
+     * Restrict who sees a hologram. Rules are kept in memory only, so register them
+     * again after a restart (e.g. in your plugin's {@code onEnable}).
+     * @param name hologram name
+     * @param rule view distance, permission and/or predicate; {@code null} makes it visible to everyone again
+     * @return true if the hologram exists
+     */
+    public static boolean setViewRule(String name, ViewRule rule) {
+        return managerOnMainThread("setViewRule").setViewRule(name, rule);
+    }
+
+    /**
+     * Restrict who sees a hologram, from any thread. See {@link #setViewRule(String, ViewRule)}.
+     * @param name hologram name
+     * @param rule view rule, or {@code null} to clear
+     * @return future completing with true if the hologram exists
+     */
+    public static CompletableFuture<Boolean> setViewRuleAsync(String name, ViewRule rule) {
+        return onMainThread(() -> manager().setViewRule(name, rule));
+    }
+
+    /**
+     * Create many holograms in one pass: entities are spawned grouped by chunk and the
+     * definitions are persisted as a single batch.
+     * @param specs holograms to create
+     * @return per-name result; false if the name exists (or repeats) or the world is missing
+     */
+    public static Map<String, Boolean> createAll(Collection<HologramSpec> specs) {
+        return managerOnMainThread("createAll").createAll(specs);
+    }
+
+    /**
+     * {@link #createAll} from any thread.
+     * @param specs holograms to create (copied immediately)
+     * @return future completing with the per-name results
+     */
+    public static CompletableFuture<Map<String, Boolean>> createAllAsync(Collection<HologramSpec> specs) {
+        List<HologramSpec> copy = List.copyOf(specs);
+        return onMainThread(() -> manager().createAll(copy));
+    }
+
+    /**
+     * Replace the lines of many holograms in one pass and persist them as a single batch.
+     * @param lines hologram name to new lines
+     * @return per-name result; false if the hologram does not exist
+     */
+    public static Map<String, Boolean> updateAll(Map<String, List<String>> lines) {
+        return managerOnMainThread("updateAll").updateAll(lines);
+    }
+
+    /**
+     * {@link #updateAll} from any thread.
+     * @param lines hologram name to new lines (copied immediately)
+     * @return future completing with the per-name results
+     */
+    public static CompletableFuture<Map<String, Boolean>> updateAllAsync(Map<String, List<String>> lines) {
+        Map<String, List<String>> copy = new LinkedHashMap<>();
+        lines.forEach((name, l) -> copy.put(name, List.copyOf(l)));
+        return onMainThread(() -> manager().updateAll(copy));
+    }
+
+    /**
+     * Move many holograms in one pass and persist them as a single batch.
+     * @param locations hologram name to target location
+     * @return per-name result; false if the hologram does not exist or the world is missing
+     */
+    public static Map<String, Boolean> moveAll(Map<String, Location> locations) {
+        return managerOnMainThread("moveAll").moveAll(locations);
+    }
+
+    /**
+     * {@link #moveAll} from any thread.
+     * @param locations hologram name to target location (copied immediately)
+     * @return future completing with the per-name results
+     */
+    public static CompletableFuture<Map<String, Boolean>> moveAllAsync(Map<String, Location> locations) {
+        Map<String, Location> copy = new LinkedHashMap<>();
+        locations.forEach((name, loc) -> copy.put(name, loc.clone()));
+        return onMainThread(() -> manager().moveAll(copy));
+    }
+
+    /**
+     * Delete many holograms and record the deletions as a single batch.
+     * @param names hologram names
+     * @return per-name result; false if the hologram did not exist
+     */
+    public static Map<String, Boolean> deleteAll(Collection<String> names) {
+        return managerOnMainThread("deleteAll").deleteAll(names);
+    }
+
+    /**
+     * {@link #deleteAll} from any thread.
+     * @param names hologram names (copied immediately)
+     * @return future completing with the per-name results
+     */
+    public static CompletableFuture<Map<String, Boolean>> deleteAllAsync(Collection<String> names) {
+        List<String> copy = List.copyOf(names);
+        return onMainThread(() -> manager().deleteAll(copy));
+    }
+
+    /**
+     * Register a placeholder usable as {@code {name}} in any hologram line. Holograms using
+     * it are re-rendered whenever its value changes, checked every {@code refreshTicks}.
+     * Built-in placeholders: {@code {online}}, {@code {max_players}}, {@code {tps}}.
+     * @param name placeholder name (letters, digits, {@code _ - .}; case-insensitive)
+     * @param refreshTicks ticks between evaluations
+     * @param provider produces the current value; called on the main thread and should be cheap
+     */
+    public static void registerPlaceholder(String name, long refreshTicks, Supplier<String> provider) {
+        managerOnMainThread("registerPlaceholder").getPlaceholders().register(name, refreshTicks, provider);
+    }
+
+    /**
+     * Remove a placeholder; holograms using it show the raw token again.
+     * @param name placeholder name
+     * @return true if it was registered
+     */
+    public static boolean unregisterPlaceholder(String name) {
+        return managerOnMainThread("unregisterPlaceholder").getPlaceholders().unregister(name);
+    }
+
+    /**
+     * Register a data source that produces hologram lines off the main thread. Its result is
+     * cached for {@code ttl} and shared by every hologram bound to it, so any number of bound
+     * holograms trigger one fetch per TTL. Sources and bindings are kept in memory only.
+     * @param id source id (case-insensitive)
+     * @param ttl how long a fetched result is reused
+     * @param source line provider; runs on a virtual thread and must not use the Bukkit API
+     */
+    public static void registerDataSource(String id, Duration ttl, DataSource source) {
+        managerOnMainThread("registerDataSource").getDataSources().register(id, ttl, source);
+    }
+
+    /**
+     * Remove a data source; bound holograms show their own lines again.
+     * @param id source id
+     * @return true if it was registered
+     */
+    public static boolean unregisterDataSource(String id) {
+        return managerOnMainThread("unregisterDataSource").getDataSources().unregister(id);
+    }
+
+    /**
+     * Display a data source's lines on a hologram. Only lines whose text changes are updated,
+     * and the hologram's own (persisted) lines are left untouched.
+     * @param name hologram name
+     * @param sourceId registered source id
+     * @return false if the hologram or the source does not exist
+     */
+    public static boolean bindDataSource(String name, String sourceId) {
+        HologramManager manager = managerOnMainThread("bindDataSource");
+        return manager.get(name).isPresent() && manager.getDataSources().bind(name.toLowerCase(Locale.ROOT), sourceId);
+    }
+
+    /**
+     * Show a hologram's own lines again.
+     * @param name hologram name
+     * @return true if it was bound
+     */
+    public static boolean unbindDataSource(String name) {
+        return managerOnMainThread("unbindDataSource").getDataSources().unbind(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Cycle a line through frames, e.g. a flashing header. All animations share one task,
+     * which updates only the animated line entity and skips holograms without nearby players.
+     * Frames may contain color codes and placeholders; they are kept in memory only and the
+     * line's stored text is left untouched.
+     * @param name hologram name
+     * @param line zero-based line index
+     * @param animation frames and interval, or {@code null} to stop animating the line
+     * @return false if the hologram does not exist or has no such line
+     */
+    public static boolean setLineAnimation(String name, int line, LineAnimation animation) {
+        return managerOnMainThread("setLineAnimation").setLineAnimation(name, line, animation);
+    }
+
+    /**
+     * Stop every line animation of a hologram.
+     * @param name hologram name
+     * @return true if it had any
+     */
+    public static boolean clearAnimations(String name) {
+        return managerOnMainThread("clearAnimations").clearAnimations(name);
     }
-}
\ No newline at end of file
+}
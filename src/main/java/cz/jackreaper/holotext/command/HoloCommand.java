@@ -17,7 +17,7 @@ import java.util.stream.Collectors;
  * Command executor and tab completer for the {@code /holo} command.
  *
  * <p>Provides sender-aware usage for subcommands: create, delete, update,
- * move, list, reset, and purge. Tab completion suggests subcommands,
+ * move, list, reset, purge, stats, export, and import. Tab completion suggests subcommands,
  * hologram names, booleans, worlds, and common radii.
  */
 public class HoloCommand implements CommandExecutor, TabCompleter {
@@ -37,6 +37,9 @@ public class HoloCommand implements CommandExecutor, TabCompleter {
         register(new ListCommand());
         register(new ResetCommand());
         register(new PurgeCommand());
+        register(new StatsCommand());
+        register(new ExportCommand());
+        register(new ImportCommand());
     }
 
     private void register(Subcommand sub) {
@@ -23,7 +23,7 @@ public class DeleteCommand implements Subcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
-        if (args.length == 1) return new java.util.ArrayList<>(manager.names());
+        if (args.length == 1) return completeNames(manager, args[0]);
         return List.of();
     }
 
@@ -0,0 +1,45 @@
+package cz.jackreaper.holotext.command.subcommands;
+
+import cz.jackreaper.holotext.hologram.HologramManager;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Writes all holograms to a human-editable YAML file in the plugin folder.
+ */
+public class ExportCommand implements Subcommand {
+    static final String DEFAULT_FILE = "export.yml";
+
+    @Override
+    public String name() { return "export"; }
+
+    @Override
+    public void execute(CommandSender sender, String label, String[] args, HologramManager manager) {
+        String name = args.length > 0 ? args[0] : DEFAULT_FILE;
+        File file = manager.exchangeFile(name);
+        if (file == null) {
+            sender.sendMessage("§cFile name must be a plain name ending in .yml, e.g. " + DEFAULT_FILE + ".");
+            return;
+        }
+        boolean started = manager.exportYaml(file, exported -> sender.sendMessage(exported != null
+                ? "§aExported §f" + exported + " §ahologram(s) to §f" + name + "§a."
+                : "§cExport failed; see the console for details."));
+        if (!started) {
+            sender.sendMessage("§c" + name + " is the live data file of the yaml storage; choose another name.");
+        }
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
+        if (args.length == 1) return List.of(DEFAULT_FILE);
+        return List.of();
+    }
+
+    @Override
+    public String usage(CommandSender sender, String label) {
+        return (sender instanceof Player ? "/" : "") + label + " export [file.yml]";
+    }
+}
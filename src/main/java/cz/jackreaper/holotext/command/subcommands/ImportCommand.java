@@ -0,0 +1,53 @@
+package cz.jackreaper.holotext.command.subcommands;
+
+import cz.jackreaper.holotext.hologram.HologramManager;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Applies a YAML file from the plugin folder, creating and updating the holograms it lists
+ * and, with {@code replace}, deleting the ones it does not.
+ */
+public class ImportCommand implements Subcommand {
+    @Override
+    public String name() { return "import"; }
+
+    @Override
+    public void execute(CommandSender sender, String label, String[] args, HologramManager manager) {
+        String name = args.length > 0 ? args[0] : ExportCommand.DEFAULT_FILE;
+        boolean replace = args.length > 1 && args[1].equalsIgnoreCase("replace");
+        File file = manager.exchangeFile(name);
+        if (file == null || (args.length > 1 && !replace)) {
+            sender.sendMessage("§cUsage: " + usage(sender, label));
+            return;
+        }
+        if (!file.isFile()) {
+            sender.sendMessage("§cFile not found in the plugin folder: " + name);
+            return;
+        }
+        boolean started = manager.importYaml(file, replace, summary -> sender.sendMessage(summary != null
+                ? "§aImport complete: §f" + summary.added() + " §aadded, §f" + summary.changed() + " §achanged, §f"
+                        + summary.removed() + " §aremoved, §f" + summary.unchanged() + " §aunchanged."
+                : "§cImport failed; see the console for details."));
+        if (!started) {
+            sender.sendMessage("§cA reset or import is already in progress.");
+            return;
+        }
+        sender.sendMessage("§eImporting " + name + "; respawning changed holograms over the next few ticks...");
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
+        if (args.length == 1) return List.of(ExportCommand.DEFAULT_FILE);
+        if (args.length == 2) return List.of("replace");
+        return List.of();
+    }
+
+    @Override
+    public String usage(CommandSender sender, String label) {
+        return (sender instanceof Player ? "/" : "") + label + " import [file.yml] [replace]";
+    }
+}
@@ -1,28 +1,100 @@
 package cz.jackreaper.holotext.command.subcommands;
 
+import cz.jackreaper.holotext.HoloTextPlugin;
+import cz.jackreaper.holotext.hologram.Hologram;
 import cz.jackreaper.holotext.hologram.HologramManager;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
+/**
+ * Lists holograms page by page, optionally filtered by world, radius around the player and name prefix.
+ */
 public class ListCommand implements Subcommand {
+    private static final int PAGE_SIZE = 10;
+
     @Override
     public String name() { return "list"; }
 
     @Override
     public void execute(CommandSender sender, String label, String[] args, HologramManager manager) {
-        var names = manager.names();
-        sender.sendMessage("§eHolograms (§f" + names.size() + "§e): §b" + String.join("§7, §b", names));
+        int page = 1;
+        String prefix = "";
+        World world = null;
+        double radius = -1;
+        for (String arg : args) {
+            String lower = arg.toLowerCase(Locale.ROOT);
+            try {
+                if (lower.startsWith("world:")) {
+                    world = HoloTextPlugin.getInstance().getServer().getWorld(arg.substring(6));
+                    if (world == null) {
+                        sender.sendMessage("§cWorld not found: " + arg.substring(6));
+                        return;
+                    }
+                } else if (lower.startsWith("radius:")) {
+                    radius = Double.parseDouble(arg.substring(7));
+                } else if (lower.startsWith("prefix:")) {
+                    prefix = arg.substring(7);
+                } else {
+                    page = Integer.parseInt(arg);
+                }
+            } catch (NumberFormatException e) {
+                sender.sendMessage("§cUsage: " + usage(sender, label));
+                return;
+            }
+        }
+        Location center = null;
+        if (radius >= 0) {
+            if (!(sender instanceof Player player)) {
+                sender.sendMessage("§cThe radius filter is only available to players.");
+                return;
+            }
+            center = player.getLocation();
+        }
+
+        List<String> names = manager.findNames(prefix, world, center, radius);
+        int pages = Math.max(1, (names.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+        page = Math.max(1, Math.min(page, pages));
+        int from = (page - 1) * PAGE_SIZE;
+        sender.sendMessage("§eHolograms (§f" + names.size() + "§e) - page §f" + page + "§e/§f" + pages + "§e:");
+        for (String key : names.subList(from, Math.min(from + PAGE_SIZE, names.size()))) {
+            Location loc = manager.get(key).map(Hologram::getLocation).orElse(null);
+            if (loc == null || loc.getWorld() == null) continue;
+            sender.sendMessage(String.format(Locale.ROOT, "§b%s §7%s %.1f %.1f %.1f",
+                    key, loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ()));
+        }
+        if (page < pages) {
+            List<String> next = new ArrayList<>();
+            next.add(String.valueOf(page + 1));
+            for (String arg : args) {
+                if (arg.contains(":")) next.add(arg);
+            }
+            sender.sendMessage("§7Next page: " + (sender instanceof Player ? "/" : "") + label + " list " + String.join(" ", next));
+        }
     }
 
     @Override
     public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
-        return List.of();
+        String current = args.length == 0 ? "" : args[args.length - 1];
+        if (current.toLowerCase(Locale.ROOT).startsWith("world:")) {
+            return HoloTextPlugin.getInstance().getServer().getWorlds().stream().map(w -> "world:" + w.getName()).toList();
+        }
+        if (current.toLowerCase(Locale.ROOT).startsWith("prefix:")) {
+            return completeNames(manager, current.substring(7)).stream().map(n -> "prefix:" + n).toList();
+        }
+        List<String> options = new ArrayList<>(List.of("world:", "prefix:"));
+        if (sender instanceof Player) options.add("radius:");
+        return options;
     }
 
     @Override
     public String usage(CommandSender sender, String label) {
-        return (sender instanceof Player ? "/" : "") + label + " list";
+        return (sender instanceof Player ? "/" : "") + label + " list [page] [world:<world>] [prefix:<text>]"
+                + (sender instanceof Player ? " [radius:<blocks>]" : "");
     }
-}
\ No newline at end of file
+}
@@ -49,7 +49,7 @@ public class MoveCommand implements Subcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
-        if (args.length == 1) return new java.util.ArrayList<>(manager.names());
+        if (args.length == 1) return completeNames(manager, args[0]);
         if (!(sender instanceof Player) && args.length == 5) {
             return HoloTextPlugin.getInstance().getServer().getWorlds().stream().map(w -> w.getName()).toList();
         }
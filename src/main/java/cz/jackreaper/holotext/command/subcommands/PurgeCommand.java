@@ -37,8 +37,13 @@ public class PurgeCommand implements Subcommand {
                 sender.sendMessage("§cWorld not found: " + area);
                 return;
             }
-            int removed = manager.purgeTaggedInWorld(world);
-            sender.sendMessage("§aPurged §f" + removed + " §atagged entity(ies) in world '§f" + world.getName() + "§a'.");
+            String worldName = world.getName();
+            sender.sendMessage("§ePurging tagged entities in world '§f" + worldName + "§e'...");
+            // Runs over several ticks; the sender gets progress updates and a final count
+            manager.startPurge(List.of(world),
+                    job -> sender.sendMessage("§7Purge progress: §f" + job.getProcessedChunks() + "/" + job.getTotalChunks()
+                            + " §7chunks, §f" + job.getRemoved() + " §7removed."),
+                    removed -> sender.sendMessage("§aPurged §f" + removed + " §atagged entity(ies) in world '§f" + worldName + "§a'."));
         }
     }
 
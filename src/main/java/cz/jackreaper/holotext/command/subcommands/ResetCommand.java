@@ -12,17 +12,30 @@ public class ResetCommand implements Subcommand {
 
     @Override
     public void execute(CommandSender sender, String label, String[] args, HologramManager manager) {
-        int loaded = manager.resetFromConfig();
-        sender.sendMessage("§aReset complete. Reloaded §f" + loaded + " §ahologram(s) from holograms.yml.");
+        boolean full = args.length > 0 && args[0].equalsIgnoreCase("full");
+        boolean started = full
+                ? manager.fullResetFromConfig(loaded ->
+                        sender.sendMessage("§aReset complete. Reloaded §f" + loaded + " §ahologram(s) from holograms.yml."))
+                : manager.resetFromConfig(summary ->
+                        sender.sendMessage("§aReset complete: §f" + summary.added() + " §aadded, §f" + summary.changed()
+                                + " §achanged, §f" + summary.removed() + " §aremoved, §f" + summary.unchanged() + " §aunchanged."));
+        if (!started) {
+            sender.sendMessage("§cA reset is already in progress.");
+            return;
+        }
+        sender.sendMessage(full
+                ? "§eResetting all holograms; respawning over the next few ticks..."
+                : "§eReloading holograms; respawning changed ones over the next few ticks...");
     }
 
     @Override
     public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
+        if (args.length == 1) return List.of("full");
         return List.of();
     }
 
     @Override
     public String usage(CommandSender sender, String label) {
-        return (sender instanceof Player ? "/" : "") + label + " reset";
+        return (sender instanceof Player ? "/" : "") + label + " reset [full]";
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package cz.jackreaper.holotext.command.subcommands;
+
+import cz.jackreaper.holotext.hologram.HologramManager;
+import cz.jackreaper.holotext.hologram.HologramSnapshot;
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Shows runtime metrics: render and storage timings, entity churn, purges and per-world counts.
+ */
+public class StatsCommand implements Subcommand {
+    @Override
+    public String name() { return "stats"; }
+
+    @Override
+    public void execute(CommandSender sender, String label, String[] args, HologramManager manager) {
+        HoloMetrics m = manager.getMetrics();
+        sender.sendMessage("§eHoloText stats (since start):");
+        sender.sendMessage(timer("Spawns", m.spawn));
+        sender.sendMessage(timer("Refreshes", m.refresh));
+        sender.sendMessage("§7Entities: §f" + m.getEntitiesSpawned() + "§7 spawned, §f" + m.getEntitiesRemoved() + "§7 removed");
+        sender.sendMessage(timer("Saves", m.save) + "§7, §f" + formatBytes(m.getBytesWritten()) + "§7 written");
+        sender.sendMessage(timer("Purges", m.purge) + "§7, §f" + m.getPurgedEntities() + "§7 entities removed");
+        HologramSnapshot snapshot = manager.snapshot();
+        Map<String, Integer> entities = snapshot.entitiesPerWorld();
+        for (Map.Entry<String, Integer> e : snapshot.hologramsPerWorld().entrySet()) {
+            sender.sendMessage("§7World §b" + e.getKey() + "§7: §f" + e.getValue() + "§7 holograms, §f"
+                    + entities.getOrDefault(e.getKey(), 0) + "§7 entities");
+        }
+    }
+
+    private static String timer(String what, HoloMetrics.Timer t) {
+        return String.format(Locale.ROOT, "§7%s: §f%d§7, total §f%.1f ms§7, avg §f%.3f ms§7, max §f%.3f ms",
+                what, t.count(), t.totalNanos() / 1_000_000.0, t.meanMillis(), t.maxNanos() / 1_000_000.0);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) return bytes + " B";
+        if (bytes < 1024 * 1024) return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    @Override
+    public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
+        return List.of();
+    }
+
+    @Override
+    public String usage(CommandSender sender, String label) {
+        return (sender instanceof Player ? "/" : "") + label + " stats";
+    }
+}
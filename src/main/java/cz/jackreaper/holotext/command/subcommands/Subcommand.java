@@ -13,6 +13,9 @@ import java.util.stream.Collectors;
  * Implementations may tailor behavior for player vs console senders.
  */
 public interface Subcommand {
+    /** Maximum number of hologram names suggested per keystroke. */
+    int MAX_NAME_SUGGESTIONS = 50;
+
     /** @return primary subcommand name (e.g., "create") */
     String name();
 
@@ -43,6 +46,16 @@ public interface Subcommand {
      */
     String usage(CommandSender sender, String label);
 
+    /**
+     * Suggest hologram names for a partially typed argument.
+     * @param manager hologram manager
+     * @param typed text typed so far
+     * @return up to {@link #MAX_NAME_SUGGESTIONS} matching names
+     */
+    default List<String> completeNames(HologramManager manager, String typed) {
+        return manager.completeNames(typed, MAX_NAME_SUGGESTIONS);
+    }
+
     /** Convenience to join args from an index. */
     default String joinFrom(String[] args, int idx) {
         return Arrays.stream(args).skip(idx).collect(Collectors.joining(" "));
@@ -31,7 +31,7 @@ public class UpdateCommand implements Subcommand {
 
     @Override
     public List<String> tabComplete(CommandSender sender, String label, String[] args, HologramManager manager) {
-        if (args.length == 1) return new java.util.ArrayList<>(manager.names());
+        if (args.length == 1) return completeNames(manager, args[0]);
         if (args.length == 2) return List.of("true", "false");
         return List.of();
     }
@@ -0,0 +1,19 @@
+package cz.jackreaper.holotext.datasource;
+
+import java.util.List;
+
+/**
+ * Produces the lines of data-driven holograms, e.g. a leaderboard read from a database.
+ *
+ * <p>Called on a virtual thread, never on the main thread, so it may block on I/O. It must
+ * not touch the Bukkit API. One result is cached per source and shared by every hologram
+ * bound to it.
+ */
+@FunctionalInterface
+public interface DataSource {
+    /**
+     * @return current lines; {@code &} color codes and placeholders are supported
+     * @throws Exception if the data could not be fetched; the previous lines stay displayed
+     */
+    List<String> fetch() throws Exception;
+}
@@ -0,0 +1,205 @@
+package cz.jackreaper.holotext.datasource;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Binds holograms to {@link DataSource}s and keeps one TTL-cached result per source.
+ *
+ * <p>A tick task starts a fetch on a virtual thread when a source with at least one bound
+ * hologram has an expired result and no fetch in flight, so any number of bound holograms
+ * cause a single fetch per TTL. Results are handed back to the main thread; if they differ
+ * from the cached lines, each bound hologram is re-rendered, which updates only the line
+ * entities whose text changed. Bound lines are display-only and never persisted. Fetches
+ * that exceed the timeout are abandoned and retried after the next TTL.
+ *
+ * <p>All methods are main-thread only; bindings and sources are kept in memory.
+ */
+public class DataSourceBindings {
+    private static final class Source {
+        final String id;
+        final DataSource source;
+        final long ttlMillis;
+        final Set<String> bound = new HashSet<>();
+        List<String> lines;
+        long fetchedAt;
+        boolean fetching;
+
+        Source(String id, DataSource source, long ttlMillis) {
+            this.id = id;
+            this.source = source;
+            this.ttlMillis = ttlMillis;
+        }
+    }
+
+    private final Plugin plugin;
+    private final Consumer<String> refresher;
+    private final long timeoutMillis;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Source> sources = new HashMap<>();
+    // hologram key -> bound source
+    private final Map<String, Source> bindings = new HashMap<>();
+    private BukkitTask task;
+
+    /**
+     * @param plugin owning plugin
+     * @param refresher re-renders a hologram by lower-case key after its bound lines changed
+     * @param timeoutMillis time after which a fetch is abandoned
+     */
+    public DataSourceBindings(Plugin plugin, Consumer<String> refresher, long timeoutMillis) {
+        this.plugin = plugin;
+        this.refresher = refresher;
+        this.timeoutMillis = Math.max(1L, timeoutMillis);
+    }
+
+    /**
+     * Start the refresh task.
+     */
+    public void start() {
+        if (task == null) task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stop the refresh task and interrupt fetches in flight.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+        executor.shutdownNow();
+    }
+
+    /**
+     * Register or replace a source. Holograms bound to a replaced source stay bound to the new one.
+     * @param id source id (case-insensitive)
+     * @param ttl how long a fetched result is reused
+     * @param source line provider
+     */
+    public void register(String id, Duration ttl, DataSource source) {
+        String key = id.toLowerCase(Locale.ROOT);
+        Source created = new Source(key, source, Math.max(1L, ttl.toMillis()));
+        Source old = sources.put(key, created);
+        if (old == null) return;
+        for (String holo : old.bound) bindings.put(holo, created);
+        created.bound.addAll(old.bound);
+    }
+
+    /**
+     * Remove a source; its holograms show their own lines again.
+     * @param id source id
+     * @return true if it was registered
+     */
+    public boolean unregister(String id) {
+        Source s = sources.remove(id.toLowerCase(Locale.ROOT));
+        if (s == null) return false;
+        for (String holo : s.bound) {
+            bindings.remove(holo);
+            refresher.accept(holo);
+        }
+        return true;
+    }
+
+    /**
+     * Display a source's lines on a hologram instead of its own.
+     * @param holoKey lower-case hologram key
+     * @param id source id
+     * @return false if no such source is registered
+     */
+    public boolean bind(String holoKey, String id) {
+        Source s = sources.get(id.toLowerCase(Locale.ROOT));
+        if (s == null) return false;
+        Source old = bindings.put(holoKey, s);
+        if (old != null) old.bound.remove(holoKey);
+        s.bound.add(holoKey);
+        // Show cached lines right away; an expired or missing result is fetched on the next tick
+        if (s.lines != null || old != null) refresher.accept(holoKey);
+        return true;
+    }
+
+    /**
+     * Show a hologram's own lines again.
+     * @param holoKey lower-case hologram key
+     * @return true if it was bound
+     */
+    public boolean unbind(String holoKey) {
+        if (!forget(holoKey)) return false;
+        refresher.accept(holoKey);
+        return true;
+    }
+
+    /**
+     * Drop the binding of a deleted hologram without re-rendering it.
+     * @param holoKey lower-case hologram key
+     * @return true if it was bound
+     */
+    public boolean forget(String holoKey) {
+        Source s = bindings.remove(holoKey);
+        if (s == null) return false;
+        s.bound.remove(holoKey);
+        return true;
+    }
+
+    /**
+     * @param holoKey lower-case hologram key
+     * @param own the hologram's own lines
+     * @return cached source lines if bound and fetched, otherwise {@code own}
+     */
+    public List<String> linesFor(String holoKey, List<String> own) {
+        Source s = bindings.get(holoKey);
+        return s != null && s.lines != null ? s.lines : own;
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        for (Source s : sources.values()) {
+            if (s.bound.isEmpty() || s.fetching) continue;
+            // Failed fetches also wait a full TTL before retrying
+            if (s.fetchedAt != 0L && now - s.fetchedAt < s.ttlMillis) continue;
+            fetch(s);
+        }
+    }
+
+    private void fetch(Source s) {
+        s.fetching = true;
+        CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return List.copyOf(s.source.fetch());
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((lines, error) -> {
+                    if (!plugin.isEnabled()) return;
+                    plugin.getServer().getScheduler().runTask(plugin, () -> apply(s, lines, error));
+                });
+    }
+
+    private void apply(Source s, List<String> lines, Throwable error) {
+        s.fetching = false;
+        s.fetchedAt = System.currentTimeMillis();
+        // Replaced or removed while fetching
+        if (sources.get(s.id) != s) return;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            plugin.getLogger().warning("Data source '" + s.id + "' failed: " + cause);
+            return;
+        }
+        if (lines.equals(s.lines)) return;
+        s.lines = lines;
+        for (String holo : s.bound) refresher.accept(holo);
+    }
+}
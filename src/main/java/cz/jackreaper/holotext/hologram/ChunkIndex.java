@@ -0,0 +1,93 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Location;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Index of hologram keys by world and base chunk.
+ *
+ * <p>Maintained by {@link HologramManager} on every create, move, delete and load so
+ * chunk events and proximity queries can find their holograms without iterating all of them.
+ */
+class ChunkIndex {
+    private final Map<String, Map<Long, Set<String>>> byWorld = new HashMap<>();
+
+    /**
+     * Pack chunk coordinates into a single map key.
+     */
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    void add(String key, Location loc) {
+        byWorld.computeIfAbsent(loc.getWorld().getName(), w -> new HashMap<>())
+                .computeIfAbsent(chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4), c -> new HashSet<>())
+                .add(key);
+    }
+
+    void remove(String key, Location loc) {
+        Map<Long, Set<String>> chunks = byWorld.get(loc.getWorld().getName());
+        if (chunks == null) return;
+        long ck = chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        Set<String> keys = chunks.get(ck);
+        if (keys == null) return;
+        keys.remove(key);
+        if (keys.isEmpty()) chunks.remove(ck);
+    }
+
+    /**
+     * @return keys of holograms whose base lies in the chunk (live view, do not modify)
+     */
+    Set<String> at(String world, int chunkX, int chunkZ) {
+        Map<Long, Set<String>> chunks = byWorld.get(world);
+        if (chunks == null) return Collections.emptySet();
+        Set<String> keys = chunks.get(chunkKey(chunkX, chunkZ));
+        return keys != null ? keys : Collections.emptySet();
+    }
+
+    /**
+     * Visit the keys of every hologram in a world.
+     */
+    void forEachInWorld(String world, Consumer<String> action) {
+        Map<Long, Set<String>> chunks = byWorld.get(world);
+        if (chunks == null) return;
+        for (Set<String> keys : chunks.values()) keys.forEach(action);
+    }
+
+    /**
+     * Visit the keys of holograms whose base chunk lies in an inclusive chunk range.
+     * Walks whichever is smaller: the requested chunk grid or the occupied chunks of the world.
+     */
+    void forEachInRange(String world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, Consumer<String> action) {
+        Map<Long, Set<String>> chunks = byWorld.get(world);
+        if (chunks == null || minChunkX > maxChunkX || minChunkZ > maxChunkZ) return;
+        long area = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (area <= chunks.size()) {
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    Set<String> keys = chunks.get(chunkKey(x, z));
+                    if (keys != null) keys.forEach(action);
+                }
+            }
+            return;
+        }
+        for (Map.Entry<Long, Set<String>> e : chunks.entrySet()) {
+            long ck = e.getKey();
+            int x = (int) (ck >> 32);
+            int z = (int) ck;
+            if (x >= minChunkX && x <= maxChunkX && z >= minChunkZ && z <= maxChunkZ) {
+                e.getValue().forEach(action);
+            }
+        }
+    }
+
+    void clear() {
+        byWorld.clear();
+    }
+}
@@ -2,7 +2,10 @@ package cz.jackreaper.holotext.hologram;
 
 import org.bukkit.Location;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * A hologram definition consisting of a name, location, text lines,
@@ -18,6 +21,8 @@ public class Hologram {
     private final Location location;
     private List<String> lines;
     private boolean staticRotation;
+    private List<UUID> entityIds = new ArrayList<>();
+    private List<String> renderedLines;
 
     /**
      * Create a hologram model.
@@ -76,4 +81,34 @@ public class Hologram {
     public void setStaticRotation(boolean staticRotation) {
         this.staticRotation = staticRotation;
     }
+
+    /**
+     * @return UUIDs of the entities currently spawned for this hologram, one per line
+     */
+    public List<UUID> getEntityIds() {
+        return Collections.unmodifiableList(entityIds);
+    }
+
+    /**
+     * Replace the recorded entity handles. Managed by {@link HologramManager}.
+     * @param entityIds UUIDs of the spawned line entities
+     */
+    void setEntityIds(List<UUID> entityIds) {
+        this.entityIds = new ArrayList<>(entityIds);
+    }
+
+    /**
+     * @return lines last applied to the spawned entities, or {@code null} if unknown
+     */
+    List<String> getRenderedLines() {
+        return renderedLines;
+    }
+
+    /**
+     * Record the lines currently shown by the spawned entities. Managed by {@link HologramRenderer}.
+     * @param renderedLines lines in entity order, or {@code null} to force a full re-render
+     */
+    void setRenderedLines(List<String> renderedLines) {
+        this.renderedLines = renderedLines;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+
+/**
+ * Spawns and removes hologram entities as their chunks load and unload.
+ * Registered only when {@code spawning.lazy} is enabled.
+ */
+public class HologramChunkListener implements Listener {
+    private final HologramManager manager;
+
+    /**
+     * @param manager manager owning the holograms
+     */
+    public HologramChunkListener(HologramManager manager) {
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent event) {
+        Chunk chunk = event.getChunk();
+        manager.spawnChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        Chunk chunk = event.getChunk();
+        manager.despawnChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Lazy entities are never saved, so any tagged entity loaded from disk is a leftover
+     * from persistent spawning and is removed.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity e : event.getEntities()) {
+            if (e.isPersistent() && HologramRenderer.isHologramEntity(e)) {
+                e.remove();
+            }
+        }
+    }
+}
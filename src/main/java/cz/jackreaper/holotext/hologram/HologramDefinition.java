@@ -0,0 +1,83 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Immutable, Bukkit-independent snapshot of a hologram as it is persisted.
+ *
+ * <p>The world is kept by name so definitions can be built, compared and
+ * serialized off the main thread; it is only resolved when spawning.
+ *
+ * @param name hologram name as configured
+ * @param world world name
+ * @param x base x coordinate
+ * @param y base y coordinate
+ * @param z base z coordinate
+ * @param yaw rotation yaw
+ * @param pitch rotation pitch
+ * @param lines raw text lines
+ * @param staticRotation true for fixed rotation, false for viewer-facing
+ * @param entityIds UUIDs of the spawned line entities
+ */
+public record HologramDefinition(String name, String world, double x, double y, double z,
+                                 float yaw, float pitch, List<String> lines, boolean staticRotation,
+                                 List<UUID> entityIds) {
+
+    public HologramDefinition {
+        lines = List.copyOf(lines);
+        entityIds = List.copyOf(entityIds);
+    }
+
+    /**
+     * Capture the current state of a live hologram.
+     * @param holo hologram to snapshot
+     * @return immutable definition
+     */
+    public static HologramDefinition of(Hologram holo) {
+        Location loc = holo.getLocation();
+        return new HologramDefinition(holo.getName(), loc.getWorld().getName(), loc.getX(), loc.getY(), loc.getZ(),
+                loc.getYaw(), loc.getPitch(), holo.getLines(), holo.isStaticRotation(), holo.getEntityIds());
+    }
+
+    /**
+     * @param ids replacement entity handles
+     * @return copy of this definition with different entity handles
+     */
+    public HologramDefinition withEntityIds(List<UUID> ids) {
+        return new HologramDefinition(name, world, x, y, z, yaw, pitch, lines, staticRotation, ids);
+    }
+
+    /**
+     * @return case-insensitive storage key
+     */
+    public String key() {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return x coordinate of the chunk containing the base location
+     */
+    public int chunkX() {
+        return (int) Math.floor(x) >> 4;
+    }
+
+    /**
+     * @return z coordinate of the chunk containing the base location
+     */
+    public int chunkZ() {
+        return (int) Math.floor(z) >> 4;
+    }
+
+    /**
+     * @param world resolved world matching {@link #world()}
+     * @return base location in the given world
+     */
+    public Location toLocation(World world) {
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+}
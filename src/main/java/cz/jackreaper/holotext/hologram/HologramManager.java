@@ -1,47 +1,206 @@
 package cz.jackreaper.holotext.hologram;
 
-import org.bukkit.ChatColor;
+import cz.jackreaper.holotext.animation.AnimationScheduler;
+import cz.jackreaper.holotext.animation.LineAnimation;
+import cz.jackreaper.holotext.datasource.DataSourceBindings;
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+import cz.jackreaper.holotext.metrics.HoloMetricsBean;
+import cz.jackreaper.holotext.metrics.PrometheusFileExporter;
+import cz.jackreaper.holotext.placeholder.PlaceholderEngine;
+import cz.jackreaper.holotext.storage.BinaryHologramStore;
+import cz.jackreaper.holotext.storage.HologramFileWatcher;
+import cz.jackreaper.holotext.storage.HologramJournal;
+import cz.jackreaper.holotext.storage.HologramStore;
+import cz.jackreaper.holotext.storage.ShardedYamlHologramStore;
+import cz.jackreaper.holotext.storage.SqliteHologramStore;
+import cz.jackreaper.holotext.storage.YamlHologramCodec;
+import cz.jackreaper.holotext.storage.YamlHologramStore;
+import cz.jackreaper.holotext.visibility.ViewRule;
+import cz.jackreaper.holotext.visibility.VisibilityEngine;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
-import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.ArmorStand;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.util.BoundingBox;
+import org.yaml.snakeyaml.error.YAMLException;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 /**
  * Service responsible for managing hologram lifecycle and persistence.
  *
- * <p>Backed by {@code holograms.yml} in the plugin data folder, this manager
+ * <p>Backed by a {@link HologramStore} ({@code holograms.yml} by default), this manager
  * provides operations to create, update, move, delete, load/save, and purge
- * hologram entities (TextDisplay/ArmorStand) from worlds.
+ * hologram entities (TextDisplay/ArmorStand) from worlds. Changes are written
+ * asynchronously and coalesced by the store.
+ *
+ * <p>Not thread-safe: everything except {@link #snapshot()} must be called on the main
+ * thread. {@link cz.jackreaper.holotext.api.HoloTextAPI} routes calls from other threads.
  */
 public class HologramManager {
     private final Plugin plugin;
     private final Map<String, Hologram> holograms = new HashMap<>();
     private final File dataFile;
-    private YamlConfiguration data;
+    private final HologramRenderer renderer;
+    private final HologramStore store;
+    private final ChunkIndex chunkIndex = new ChunkIndex();
+    private final NameIndex nameIndex = new NameIndex();
+    private final boolean lazySpawning;
+    private final VisibilityEngine visibility;
+    private final SpawnQueue spawnQueue;
+    private final PlaceholderEngine placeholders;
+    private final DataSourceBindings dataSources;
+    private final AnimationScheduler animations;
+    private final HoloMetrics metrics = new HoloMetrics();
+    private final HoloMetricsBean metricsBean;
+    private final PrometheusFileExporter prometheus;
+    private final HologramFileWatcher watcher;
+    private boolean resetting;
+    private boolean loading;
+    // Read lock-free from any thread; replaced (never mutated) on the main thread
+    private volatile HologramSnapshot snapshot = HologramSnapshot.EMPTY;
+    private final Set<String> snapshotDirty = new HashSet<>();
 
     /**
      * Create a manager bound to a plugin instance.
-     * Ensures the data folder and {@code holograms.yml} exist.
+     * Ensures the data folder and {@code holograms.yml} exist and opens the store
+     * selected by {@code storage.type}, flushing every {@code storage.flush-interval-ticks}.
+     * With {@code spawning.lazy}, entities are non-persistent and only exist while their chunk is loaded.
+     * Bulk spawns and despawns are limited to {@code spawning.tick-budget-ms} per tick.
      * @param plugin owning plugin
      */
     public HologramManager(Plugin plugin) {
         this.plugin = plugin;
         this.dataFile = new File(plugin.getDataFolder(), "holograms.yml");
+        this.lazySpawning = plugin.getConfig().getBoolean("spawning.lazy", false);
+        this.visibility = new VisibilityEngine(plugin, this, plugin.getConfig().getDouble("visibility.default-view-distance", 0.0));
+        this.placeholders = new PlaceholderEngine(plugin, this::refreshDisplayed);
+        this.dataSources = new DataSourceBindings(plugin, this::refreshDisplayed,
+                plugin.getConfig().getLong("data-sources.fetch-timeout-ms", 10000L));
+        this.animations = new AnimationScheduler(plugin, holograms::get, this::refreshDisplayed,
+                plugin.getConfig().getDouble("animations.viewer-radius", 48.0));
+        this.renderer = new HologramRenderer(plugin, renderOptions(), holo -> visibility.isManaged(holo.getName().toLowerCase(Locale.ROOT)),
+                this::displayedLines, metrics);
+        long spawnBudgetNanos = (long) (plugin.getConfig().getDouble("spawning.tick-budget-ms", 2.0) * 1_000_000L);
+        this.spawnQueue = new SpawnQueue(plugin, spawnBudgetNanos, holograms::get, this::spawnQueued, renderer::despawn);
         if (!plugin.getDataFolder().exists()) plugin.getDataFolder().mkdirs();
+        this.store = createStore();
+        this.store.useMetrics(metrics);
+        this.store.start(plugin.getConfig().getLong("storage.flush-interval-ticks", 40L));
+        this.placeholders.start();
+        this.dataSources.start();
+        this.animations.start();
+        this.watcher = createWatcher();
+        this.metricsBean = new HoloMetricsBean(metrics, this::snapshot);
+        this.metricsBean.register(plugin.getLogger());
+        if (plugin.getConfig().getBoolean("metrics.prometheus.enabled", false)) {
+            File promFile = new File(plugin.getDataFolder(), plugin.getConfig().getString("metrics.prometheus.file", "metrics.prom"));
+            this.prometheus = new PrometheusFileExporter(plugin, metrics, this::snapshot, promFile.toPath());
+            this.prometheus.start(plugin.getConfig().getLong("metrics.prometheus.interval-ticks", 300L));
+        } else {
+            this.prometheus = null;
+        }
+    }
+
+    private HologramRenderer.Options renderOptions() {
+        String mode = plugin.getConfig().getString("rendering.mode", "per-line").toLowerCase(Locale.ROOT);
+        if (!mode.equals("single") && !mode.equals("per-line")) {
+            plugin.getLogger().warning("Unknown rendering.mode '" + mode + "'; using per-line.");
+        }
+        TextDisplay.TextAlignment alignment;
+        try {
+            alignment = TextDisplay.TextAlignment.valueOf(plugin.getConfig().getString("rendering.alignment", "center").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown rendering.alignment; using center.");
+            alignment = TextDisplay.TextAlignment.CENTER;
+        }
+        LineComponentCache.Format format;
+        try {
+            format = LineComponentCache.Format.valueOf(plugin.getConfig().getString("rendering.text-format", "legacy").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown rendering.text-format; using legacy.");
+            format = LineComponentCache.Format.LEGACY;
+        }
+        return new HologramRenderer.Options(!lazySpawning, mode.equals("single"),
+                plugin.getConfig().getInt("rendering.line-width", 200), alignment,
+                format, plugin.getConfig().getInt("rendering.component-cache-size", 4096));
+    }
+
+    private HologramStore createStore() {
+        String type = plugin.getConfig().getString("storage.type", "yaml").toLowerCase(Locale.ROOT);
+        if (type.equals("sqlite")) {
+            try {
+                return new SqliteHologramStore(plugin, new File(plugin.getDataFolder(), "holograms.db"), dataFile);
+            } catch (IllegalStateException e) {
+                plugin.getLogger().severe(e.getMessage() + "; falling back to holograms.yml.");
+            }
+        } else if (type.equals("sharded")) {
+            return new ShardedYamlHologramStore(plugin, new File(plugin.getDataFolder(), "holograms"), dataFile);
+        } else if (type.equals("binary")) {
+            return new BinaryHologramStore(plugin, new File(plugin.getDataFolder(), "holograms.bin"), dataFile);
+        } else if (!type.equals("yaml")) {
+            plugin.getLogger().warning("Unknown storage.type '" + type + "'; using yaml.");
+        }
+        // Only the YAML store owns holograms.yml; the others merely import it if it exists
         if (!dataFile.exists()) {
             try { dataFile.createNewFile(); } catch (IOException ignored) {}
         }
-        this.data = YamlConfiguration.loadConfiguration(dataFile);
+        YamlHologramStore yaml = new YamlHologramStore(plugin, dataFile);
+        if (plugin.getConfig().getBoolean("storage.journal.enabled", false)) {
+            HologramJournal journal = new HologramJournal(new File(plugin.getDataFolder(), "holograms.journal"));
+            yaml.useJournal(journal, plugin.getConfig().getLong("storage.journal.compact-threshold-bytes", 1048576L));
+        }
+        return yaml;
     }
 
+    private HologramFileWatcher createWatcher() {
+        if (!plugin.getConfig().getBoolean("storage.watch.enabled", false)) return null;
+        if (!(store instanceof YamlHologramStore yaml)) {
+            plugin.getLogger().warning("storage.watch only applies to storage.type yaml; not watching.");
+            return null;
+        }
+        HologramFileWatcher w = new HologramFileWatcher(plugin, yaml, dataFile.toPath(),
+                plugin.getConfig().getLong("storage.watch.debounce-ms", 500L), this::applyExternalEdits);
+        w.start();
+        return w;
+    }
+
+    /**
+     * @return true if entities are spawned on chunk load and removed on chunk unload
+     */
+    public boolean isLazySpawning() { return lazySpawning; }
+
+    /**
+     * @return per-player visibility engine
+     */
+    public VisibilityEngine getVisibility() { return visibility; }
+
+    /**
+     * @return placeholder registry and resolver
+     */
+    public PlaceholderEngine getPlaceholders() { return placeholders; }
+
+    /**
+     * @return data-source registry and hologram bindings
+     */
+    public DataSourceBindings getDataSources() { return dataSources; }
+
+    /**
+     * @return shared line animation scheduler
+     */
+    public AnimationScheduler getAnimations() { return animations; }
+
+    /**
+     * @return runtime counters for rendering, storage and purges
+     */
+    public HoloMetrics getMetrics() { return metrics; }
+
     /**
      * @return number of holograms currently tracked in memory
      */
@@ -52,6 +211,42 @@ public class HologramManager {
      */
     public Set<String> names() { return Collections.unmodifiableSet(holograms.keySet()); }
 
+    /**
+     * Hologram names starting with a prefix, for tab completion.
+     * @param prefix name prefix (case-insensitive)
+     * @param limit maximum number of results
+     * @return up to {@code limit} lower-case names in sorted order
+     */
+    public List<String> completeNames(String prefix, int limit) {
+        return nameIndex.complete(prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    /**
+     * Sorted hologram names matching every given filter.
+     * @param prefix name prefix (case-insensitive), or empty for any
+     * @param world only holograms in this world, or {@code null} for any
+     * @param center only holograms within {@code radius} of this location, or {@code null} for any
+     * @param radius radius in blocks, used with {@code center}
+     * @return matching lower-case names in sorted order
+     */
+    public List<String> findNames(String prefix, World world, Location center, double radius) {
+        String p = prefix.toLowerCase(Locale.ROOT);
+        if (center == null && world == null) return new ArrayList<>(nameIndex.withPrefix(p));
+        List<String> result = new ArrayList<>();
+        if (center != null) {
+            for (Hologram holo : nearby(center, radius)) {
+                String key = holo.getName().toLowerCase(Locale.ROOT);
+                if (key.startsWith(p) && (world == null || world.equals(holo.getLocation().getWorld()))) result.add(key);
+            }
+        } else {
+            chunkIndex.forEachInWorld(world.getName(), key -> {
+                if (key.startsWith(p)) result.add(key);
+            });
+        }
+        Collections.sort(result);
+        return result;
+    }
+
     /**
      * Look up a hologram by name.
      * @param name hologram name (case-insensitive)
@@ -59,6 +254,13 @@ public class HologramManager {
      */
     public Optional<Hologram> get(String name) { return Optional.ofNullable(holograms.get(name.toLowerCase(Locale.ROOT))); }
 
+    /**
+     * Immutable view of all holograms for readers on other threads. Reflects changes
+     * up to the end of the previous tick; main-thread code should use the live getters.
+     * @return latest published snapshot
+     */
+    public HologramSnapshot snapshot() { return snapshot; }
+
     /**
      * Create and spawn a new hologram.
      * @param name unique name
@@ -71,7 +273,7 @@ public class HologramManager {
         String key = name.toLowerCase(Locale.ROOT);
         if (holograms.containsKey(key)) return false;
         Hologram holo = new Hologram(name, loc.clone(), new ArrayList<>(lines), staticRotation);
-        holograms.put(key, holo);
+        track(key, holo);
         spawnOrRefresh(holo);
         saveOne(holo);
         return true;
@@ -84,16 +286,20 @@ public class HologramManager {
      */
     public boolean delete(String name) {
         String key = name.toLowerCase(Locale.ROOT);
-        Hologram holo = holograms.remove(key);
+        Hologram holo = untrack(key);
         if (holo == null) return false;
+        spawnQueue.cancel(key);
         removeEntitiesFor(holo);
-        data.set("holograms." + key, null);
-        saveDataFile();
+        visibility.forgetHologram(key);
+        placeholders.forget(key);
+        dataSources.forget(key);
+        animations.forget(key);
+        store.delete(key);
         return true;
     }
 
     /**
-     * Update hologram text lines and respawn entities.
+     * Update hologram text lines, re-rendering only the lines that changed.
      * @param name hologram name
      * @param lines new text lines
      * @return true if updated successfully
@@ -108,7 +314,8 @@ public class HologramManager {
     }
 
     /**
-     * Update static rotation and text, then respawn entities.
+     * Update static rotation and text, then refresh entities in place.
+     * Entities are only replaced when the rotation mode flips.
      * @param name hologram name
      * @param lines new text lines
      * @param staticRotation whether rotation is fixed
@@ -125,7 +332,7 @@ public class HologramManager {
     }
 
     /**
-     * Move a hologram to a new location and respawn entities.
+     * Move a hologram to a new location, teleporting its existing entities.
      * @param name hologram name
      * @param newLoc target location
      * @return true if moved successfully
@@ -134,190 +341,510 @@ public class HologramManager {
         Hologram holo = holograms.get(name.toLowerCase(Locale.ROOT));
         if (holo == null) return false;
         Hologram moved = new Hologram(holo.getName(), newLoc.clone(), holo.getLines(), holo.isStaticRotation());
-        holograms.put(name.toLowerCase(Locale.ROOT), moved);
+        // Carry entity handles over so the existing line entities are moved in place
+        moved.setEntityIds(holo.getEntityIds());
+        moved.setRenderedLines(holo.getRenderedLines());
+        untrack(moved.getName().toLowerCase(Locale.ROOT));
+        track(moved.getName().toLowerCase(Locale.ROOT), moved);
         spawnOrRefresh(moved);
+        visibility.refresh(moved);
         saveOne(moved);
         return true;
     }
 
     /**
-     * Load holograms from {@code holograms.yml} and spawn them into the world.
+     * Create many holograms at once. Entities are spawned in one pass grouped by world and
+     * chunk, and all new definitions are handed to the store as a single batch.
+     * @param specs holograms to create
+     * @return per-name result; false if the name already exists (or repeats in the batch) or the world is missing
+     */
+    public Map<String, Boolean> createAll(Collection<HologramSpec> specs) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        List<Hologram> created = new ArrayList<>(specs.size());
+        for (HologramSpec spec : specs) {
+            String key = spec.name().toLowerCase(Locale.ROOT);
+            boolean ok = spec.location().getWorld() != null && !holograms.containsKey(key);
+            results.put(spec.name(), ok);
+            if (!ok) continue;
+            Hologram holo = new Hologram(spec.name(), spec.location(), new ArrayList<>(spec.lines()), spec.staticRotation());
+            track(key, holo);
+            created.add(holo);
+        }
+        renderAndSaveBatch(created);
+        return results;
+    }
+
+    /**
+     * Replace the lines of many holograms at once, rendering and persisting them as one batch.
+     * @param lines hologram name to new lines
+     * @return per-name result; false if the hologram does not exist
+     */
+    public Map<String, Boolean> updateAll(Map<String, List<String>> lines) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        List<Hologram> changed = new ArrayList<>(lines.size());
+        for (Map.Entry<String, List<String>> e : lines.entrySet()) {
+            Hologram holo = holograms.get(e.getKey().toLowerCase(Locale.ROOT));
+            results.put(e.getKey(), holo != null);
+            if (holo == null) continue;
+            holo.setLines(new ArrayList<>(e.getValue()));
+            changed.add(holo);
+        }
+        renderAndSaveBatch(changed);
+        return results;
+    }
+
+    /**
+     * Move many holograms at once, moving their entities in place and persisting them as one batch.
+     * @param locations hologram name to target location
+     * @return per-name result; false if the hologram does not exist or the target world is missing
+     */
+    public Map<String, Boolean> moveAll(Map<String, Location> locations) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        List<Hologram> moved = new ArrayList<>(locations.size());
+        for (Map.Entry<String, Location> e : locations.entrySet()) {
+            String key = e.getKey().toLowerCase(Locale.ROOT);
+            Hologram holo = holograms.get(key);
+            boolean ok = holo != null && e.getValue().getWorld() != null;
+            results.put(e.getKey(), ok);
+            if (!ok) continue;
+            Hologram target = new Hologram(holo.getName(), e.getValue().clone(), holo.getLines(), holo.isStaticRotation());
+            // Carry entity handles over so the existing line entities are moved in place
+            target.setEntityIds(holo.getEntityIds());
+            target.setRenderedLines(holo.getRenderedLines());
+            untrack(key);
+            track(key, target);
+            moved.add(target);
+        }
+        renderAndSaveBatch(moved);
+        for (Hologram holo : moved) visibility.refresh(holo);
+        return results;
+    }
+
+    /**
+     * Delete many holograms at once and record the deletions as one batch.
+     * @param names hologram names
+     * @return per-name result; false if the hologram did not exist
+     */
+    public Map<String, Boolean> deleteAll(Collection<String> names) {
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        List<String> deleted = new ArrayList<>(names.size());
+        for (String name : names) {
+            String key = name.toLowerCase(Locale.ROOT);
+            Hologram holo = untrack(key);
+            results.put(name, holo != null);
+            if (holo == null) continue;
+            spawnQueue.cancel(key);
+            removeEntitiesFor(holo);
+            visibility.forgetHologram(key);
+            placeholders.forget(key);
+            dataSources.forget(key);
+            animations.forget(key);
+            deleted.add(key);
+        }
+        if (!deleted.isEmpty()) store.deleteAll(deleted);
+        return results;
+    }
+
+    // One pass in world/chunk order, so each chunk's entities are spawned back to back, then a single store batch
+    private void renderAndSaveBatch(List<Hologram> holos) {
+        if (holos.isEmpty()) return;
+        holos.sort(Comparator.comparing((Hologram h) -> h.getLocation().getWorld().getName())
+                .thenComparingLong(h -> ChunkIndex.chunkKey(h.getLocation().getBlockX() >> 4, h.getLocation().getBlockZ() >> 4)));
+        List<HologramDefinition> defs = new ArrayList<>(holos.size());
+        for (Hologram holo : holos) {
+            spawnOrRefresh(holo);
+            defs.add(toStored(holo));
+        }
+        store.upsertAll(defs);
+    }
+
+    /**
+     * Set or clear the visibility rule of a hologram (not persisted).
+     * @param name hologram name
+     * @param rule view distance/permission/predicate rule, or {@code null} to clear
+     * @return true if the hologram exists
+     */
+    public boolean setViewRule(String name, ViewRule rule) {
+        Hologram holo = holograms.get(name.toLowerCase(Locale.ROOT));
+        if (holo == null) return false;
+        visibility.setRule(holo, rule);
+        return true;
+    }
+
+    /**
+     * Set or clear the frame animation of one line (not persisted). Frames are displayed
+     * instead of the line's own text, which stays stored unchanged.
+     * @param name hologram name
+     * @param line zero-based line index
+     * @param animation frames and interval, or {@code null} to stop animating the line
+     * @return false if the hologram does not exist or has no such line
+     */
+    public boolean setLineAnimation(String name, int line, LineAnimation animation) {
+        String key = name.toLowerCase(Locale.ROOT);
+        Hologram holo = holograms.get(key);
+        if (holo == null || line < 0 || line >= holo.getLines().size()) return false;
+        animations.set(key, line, animation);
+        refreshDisplayed(key);
+        return true;
+    }
+
+    /**
+     * Stop every line animation of a hologram.
+     * @param name hologram name
+     * @return true if it had any
+     */
+    public boolean clearAnimations(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (!animations.forget(key)) return false;
+        refreshDisplayed(key);
+        return true;
+    }
+
+    /**
+     * Load holograms for every loaded world from the store and queue them for spawning.
+     * Reading and decoding happen off the main thread; once the decoded definitions arrive,
+     * they are compared with the in-memory holograms by name and content. Only added and
+     * changed holograms are (re)spawned, over the following ticks and nearest to online
+     * players first; removed ones are despawned and unchanged ones are left alone.
      * Warns and skips entries with missing worlds or required fields.
+     * @return future completed on the main thread with the number of loaded holograms
+     */
+    public CompletableFuture<Integer> loadAll() {
+        return loadChanges().thenApply(summary -> size());
+    }
+
+    /**
+     * Counts of a reload compared with the holograms that were in memory.
+     * @param added holograms that only exist in storage
+     * @param changed holograms whose location, rotation mode or lines differ
+     * @param removed holograms no longer in storage
+     * @param unchanged holograms left untouched
      */
-    public void loadAll() {
-        holograms.clear();
-        if (!data.contains("holograms")) return;
-        for (String key : Objects.requireNonNull(data.getConfigurationSection("holograms")).getKeys(false)) {
-            String path = "holograms." + key + ".";
-            String worldName = data.getString(path + "world");
-            World world = worldName != null ? plugin.getServer().getWorld(worldName) : null;
-            if (world == null) {
-                plugin.getLogger().warning("Skipping hologram '" + key + "' due to missing world '" + worldName + "'.");
+    public record ReloadSummary(int added, int changed, int removed, int unchanged) {}
+
+    private CompletableFuture<ReloadSummary> loadChanges() {
+        loading = true;
+        return store.loadAsync(loadedWorldNames()).thenApply(defs -> {
+            loading = false;
+            return applyLoaded(defs, false);
+        });
+    }
+
+    // holograms.yml was edited outside the plugin: re-read it off the main thread and apply only the differences
+    private void applyExternalEdits() {
+        if (resetting || loading) {
+            // A reload in flight may have read the file before the edit; look again once it is done
+            plugin.getServer().getScheduler().runTaskLater(plugin, this::applyExternalEdits, 20L);
+            return;
+        }
+        loading = true;
+        ((YamlHologramStore) store).reloadAsync(loadedWorldNames()).thenAccept(defs -> {
+            loading = false;
+            if (defs == null) return;
+            ReloadSummary s = applyLoaded(defs, false);
+            if (s.added() + s.changed() + s.removed() == 0) return;
+            plugin.getLogger().info("Applied external edit of " + dataFile.getName() + ": " + s.added() + " added, "
+                    + s.changed() + " changed, " + s.removed() + " removed.");
+        });
+    }
+
+    private List<String> loadedWorldNames() {
+        List<String> worlds = new ArrayList<>();
+        for (World world : plugin.getServer().getWorlds()) worlds.add(world.getName());
+        return worlds;
+    }
+
+    // Holograms created or respawned while the load was in flight are in the loaded set too, so they compare unchanged.
+    // persist: the definitions did not come from the store, so differences are written back to it
+    private ReloadSummary applyLoaded(Collection<HologramDefinition> defs, boolean persist) {
+        Map<String, Hologram> previous = new HashMap<>(holograms);
+        int added = 0;
+        int changed = 0;
+        int unchanged = 0;
+        for (HologramDefinition def : defs) {
+            World world = plugin.getServer().getWorld(def.world());
+            if (world == null) continue;
+            String key = def.key();
+            Hologram prev = previous.remove(key);
+            if (prev != null && sameContent(prev, def)) {
+                unchanged++;
+                // Never spawned (e.g. world loaded late); anything already spawned is not touched
+                if (prev.getEntityIds().isEmpty() && (!lazySpawning || isChunkLoaded(prev.getLocation()))) spawnQueue.spawn(key);
                 continue;
             }
-            double x = data.getDouble(path + "x");
-            double y = data.getDouble(path + "y");
-            double z = data.getDouble(path + "z");
-            float yaw = (float) data.getDouble(path + "yaw", 0.0);
-            float pitch = (float) data.getDouble(path + "pitch", 0.0);
-            List<String> lines = data.getStringList(path + "lines");
-            if (!data.contains(path + "static")) {
-                plugin.getLogger().warning("Skipping hologram '" + key + "' because 'static' flag is missing. Update it via command to set static/dynamic.");
-                continue;
+            Hologram holo = new Hologram(def.name(), def.toLocation(world), new ArrayList<>(def.lines()), def.staticRotation());
+            boolean spawnNow = !lazySpawning || isChunkLoaded(holo.getLocation());
+            if (prev == null) {
+                holo.setEntityIds(def.entityIds());
+                added++;
+            } else {
+                untrack(key);
+                if (spawnNow) {
+                    // Reuse the old line entities; the renderer moves and re-texts them in place
+                    holo.setEntityIds(prev.getEntityIds());
+                    holo.setRenderedLines(prev.getRenderedLines());
+                } else {
+                    spawnQueue.despawn(prev);
+                }
+                changed++;
             }
-            boolean staticRotation = data.getBoolean(path + "static");
-            Location loc = new Location(world, x, y, z, yaw, pitch);
-            Hologram holo = new Hologram(key, loc, lines, staticRotation);
-            holograms.put(key.toLowerCase(Locale.ROOT), holo);
-            spawnOrRefresh(holo);
+            track(key, holo);
+            if (persist) saveOne(holo);
+            // Lazy holograms in unloaded chunks are spawned by the chunk listener instead
+            if (spawnNow) spawnQueue.spawn(key);
+        }
+        for (Map.Entry<String, Hologram> stale : previous.entrySet()) {
+            String key = stale.getKey();
+            untrack(key);
+            spawnQueue.cancel(key);
+            visibility.forgetHologram(key);
+            placeholders.forget(key);
+            dataSources.forget(key);
+            animations.forget(key);
+            spawnQueue.despawn(stale.getValue());
+            if (persist) store.delete(key);
+        }
+        return new ReloadSummary(added, changed, previous.size(), unchanged);
+    }
+
+    private static boolean sameContent(Hologram live, HologramDefinition def) {
+        // Entity handles are bookkeeping, not content
+        return HologramDefinition.of(live).withEntityIds(List.of()).equals(def.withEntityIds(List.of()));
+    }
+
+    /**
+     * Spawn the holograms whose base lies in a chunk that just loaded. Lazy spawning only.
+     * @param world chunk world
+     * @param chunkX chunk x
+     * @param chunkZ chunk z
+     */
+    public void spawnChunk(World world, int chunkX, int chunkZ) {
+        for (String key : chunkIndex.at(world.getName(), chunkX, chunkZ)) {
+            Hologram holo = holograms.get(key);
+            if (holo != null) render(holo);
+        }
+    }
+
+    /**
+     * Remove the entities of holograms whose base lies in a chunk that is unloading. Lazy spawning only.
+     * @param world chunk world
+     * @param chunkX chunk x
+     * @param chunkZ chunk z
+     */
+    public void despawnChunk(World world, int chunkX, int chunkZ) {
+        for (String key : chunkIndex.at(world.getName(), chunkX, chunkZ)) {
+            Hologram holo = holograms.get(key);
+            if (holo != null) renderer.despawn(holo);
+        }
+    }
+
+    /**
+     * Collect holograms whose base chunk lies within a square chunk radius.
+     * @param world world to search
+     * @param chunkX center chunk x
+     * @param chunkZ center chunk z
+     * @param radius radius in chunks
+     * @return matching holograms
+     */
+    public List<Hologram> inChunkRadius(World world, int chunkX, int chunkZ, int radius) {
+        List<Hologram> result = new ArrayList<>();
+        chunkIndex.forEachInRange(world.getName(), chunkX - radius, chunkZ - radius, chunkX + radius, chunkZ + radius, key -> {
+            Hologram holo = holograms.get(key);
+            if (holo != null) result.add(holo);
+        });
+        return result;
+    }
+
+    /**
+     * Find holograms whose base location is within a spherical radius.
+     * Uses the chunk index, so cost depends on the area searched and the results, not on the total count.
+     * @param center center location (world and coordinates)
+     * @param radius radius in blocks
+     * @return matching holograms
+     */
+    public List<Hologram> nearby(Location center, double radius) {
+        if (center == null || center.getWorld() == null || radius < 0) return List.of();
+        double r2 = radius * radius;
+        List<Hologram> result = new ArrayList<>();
+        chunkIndex.forEachInRange(center.getWorld().getName(),
+                (int) Math.floor(center.getX() - radius) >> 4, (int) Math.floor(center.getZ() - radius) >> 4,
+                (int) Math.floor(center.getX() + radius) >> 4, (int) Math.floor(center.getZ() + radius) >> 4, key -> {
+            Hologram holo = holograms.get(key);
+            if (holo != null && holo.getLocation().distanceSquared(center) <= r2) result.add(holo);
+        });
+        return result;
+    }
+
+    /**
+     * Find holograms whose base location lies inside a box.
+     * @param world world to search
+     * @param box axis-aligned box in block coordinates
+     * @return matching holograms
+     */
+    public List<Hologram> within(World world, BoundingBox box) {
+        if (world == null || box == null) return List.of();
+        List<Hologram> result = new ArrayList<>();
+        chunkIndex.forEachInRange(world.getName(),
+                (int) Math.floor(box.getMinX()) >> 4, (int) Math.floor(box.getMinZ()) >> 4,
+                (int) Math.floor(box.getMaxX()) >> 4, (int) Math.floor(box.getMaxZ()) >> 4, key -> {
+            Hologram holo = holograms.get(key);
+            if (holo == null) return;
+            Location loc = holo.getLocation();
+            if (box.contains(loc.getX(), loc.getY(), loc.getZ())) result.add(holo);
+        });
+        return result;
+    }
+
+    private void track(String key, Hologram holo) {
+        holograms.put(key, holo);
+        chunkIndex.add(key, holo.getLocation());
+        nameIndex.add(key);
+        markDirty(key);
+    }
+
+    private Hologram untrack(String key) {
+        Hologram holo = holograms.remove(key);
+        if (holo != null) {
+            chunkIndex.remove(key, holo.getLocation());
+            nameIndex.remove(key);
+            markDirty(key);
         }
+        return holo;
+    }
+
+    // Coalesce changes and publish one new snapshot on the next tick
+    private void markDirty(String key) {
+        // A disabled plugin cannot schedule tasks, and nobody reads the snapshot after shutdown
+        if (snapshotDirty.isEmpty() && plugin.isEnabled()) plugin.getServer().getScheduler().runTask(plugin, this::publishSnapshot);
+        snapshotDirty.add(key);
+    }
+
+    private void publishSnapshot() {
+        Map<String, Hologram> changes = new HashMap<>();
+        for (String key : snapshotDirty) changes.put(key, holograms.get(key));
+        snapshotDirty.clear();
+        snapshot = snapshot.with(changes);
     }
 
     /**
-     * Persist all holograms to {@code holograms.yml}.
+     * Mark all holograms for persistence on the next flush.
      */
     public void saveAll() {
-        data.set("holograms", null);
         for (Hologram holo : holograms.values()) {
             saveOne(holo);
         }
-        saveDataFile();
+    }
+
+    /**
+     * Stop background persistence and synchronously write any pending changes.
+     * Call once when the plugin is disabled.
+     */
+    public void shutdown() {
+        placeholders.stop();
+        dataSources.stop();
+        animations.stop();
+        if (prometheus != null) prometheus.stop();
+        if (watcher != null) watcher.stop();
+        metricsBean.unregister();
+        spawnQueue.clear();
+        store.close();
     }
 
     private void saveOne(Hologram holo) {
+        store.upsert(toStored(holo));
+    }
+
+    private HologramDefinition toStored(Hologram holo) {
+        markDirty(holo.getName().toLowerCase(Locale.ROOT));
+        HologramDefinition def = HologramDefinition.of(holo);
+        // Lazy entities do not outlive their chunk, so their handles are not worth persisting
+        return lazySpawning ? def.withEntityIds(List.of()) : def;
+    }
+
+    // Bound data source lines first, then current animation frames, then placeholders substituted
+    private List<String> displayedLines(Hologram holo) {
         String key = holo.getName().toLowerCase(Locale.ROOT);
-        String path = "holograms." + key + ".";
-        Location loc = holo.getLocation();
-        data.set(path + "world", loc.getWorld().getName());
-        data.set(path + "x", loc.getX());
-        data.set(path + "y", loc.getY());
-        data.set(path + "z", loc.getZ());
-        data.set(path + "yaw", loc.getYaw());
-        data.set(path + "pitch", loc.getPitch());
-        data.set(path + "lines", holo.getLines());
-        data.set(path + "static", holo.isStaticRotation());
-        saveDataFile();
-    }
-
-    private void saveDataFile() {
-        try {
-            data.save(dataFile);
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save holograms.yml: " + e.getMessage());
-        }
+        return placeholders.resolve(key, animations.apply(key, dataSources.linesFor(key, holo.getLines())));
     }
 
-    private void spawnOrRefresh(Hologram holo) {
-        // Remove any existing displays for this hologram and respawn cleanly
-        removeEntitiesFor(holo);
+    // Displayed lines changed: update the line entities in place, but never spawn for it
+    private void refreshDisplayed(String key) {
+        Hologram holo = holograms.get(key);
+        if (holo == null || holo.getEntityIds().isEmpty() || !isChunkLoaded(holo.getLocation())) return;
+        render(holo);
+    }
 
-        World world = holo.getLocation().getWorld();
-        if (world == null) return;
-
-        // Spawn one invisible, marker ArmorStand per line, stacked with small spacing.
-        List<String> lines = holo.getLines();
-        Location base = holo.getLocation().clone();
-        double spacing = 0.25; // vertical distance between lines
-        // Place lines stacked UPWARD from the base location (base is bottom)
-        for (int i = 0; i < lines.size(); i++) {
-            String raw = lines.get(i);
-            Location lineLoc = base.clone().add(0, (lines.size() - 1 - i) * spacing, 0);
-
-            if (holo.isStaticRotation()) {
-                // Use TextDisplay with FIXED billboard and set rotation to location yaw/pitch
-                String colored = ChatColor.translateAlternateColorCodes('&', raw);
-                world.spawn(lineLoc, TextDisplay.class, td -> {
-                    td.setBillboard(Display.Billboard.FIXED);
-                    td.setRotation(base.getYaw(), base.getPitch());
-                    td.setText(colored);
-                    td.addScoreboardTag(tagFor(holo.getName()));
-                    td.setPersistent(true);
-                });
-            } else {
-                // Default: ArmorStand nameplates which always face the viewer
-                String colored = ChatColor.translateAlternateColorCodes('&', raw);
-                world.spawn(lineLoc, ArmorStand.class, as -> {
-                    as.setInvisible(true);
-                    as.setMarker(true);
-                    as.setGravity(false);
-                    as.setCustomNameVisible(true);
-                    as.setCustomName(colored);
-                    as.addScoreboardTag(tagFor(holo.getName()));
-                    as.setPersistent(true);
-                });
-            }
-        }
+    private void spawnQueued(Hologram holo) {
+        spawnOrRefresh(holo);
+        // Entity handles may have changed while spawning (lazy handles are never persisted)
+        if (!lazySpawning) saveOne(holo);
     }
 
-    private void removeEntitiesFor(Hologram holo) {
-        World world = holo.getLocation().getWorld();
-        if (world == null) return;
-        String tag = tagFor(holo.getName());
-        for (TextDisplay td : world.getEntitiesByClass(TextDisplay.class)) {
-            if (td.getScoreboardTags().contains(tag)) {
-                td.remove();
-            }
+    private void spawnOrRefresh(Hologram holo) {
+        if (lazySpawning && !isChunkLoaded(holo.getLocation())) {
+            // Never load chunks just to spawn; the chunk listener spawns it when the chunk loads
+            renderer.despawn(holo);
+            return;
         }
-        for (ArmorStand as : world.getEntitiesByClass(ArmorStand.class)) {
-            if (as.getScoreboardTags().contains(tag)) {
-                as.remove();
-            }
+        render(holo);
+    }
+
+    private void render(Hologram holo) {
+        List<UUID> before = holo.getEntityIds();
+        // Reconcile existing line entities in place; respawns only when they cannot be reused
+        renderer.render(holo);
+        // Fresh entities start hidden for managed holograms, so viewers must be re-applied
+        if (!before.equals(holo.getEntityIds())) {
+            visibility.refresh(holo);
+            markDirty(holo.getName().toLowerCase(Locale.ROOT));
         }
     }
 
-    private String tagFor(String name) {
-        return "holotext:" + name.toLowerCase(Locale.ROOT);
+    private static boolean isChunkLoaded(Location loc) {
+        World world = loc.getWorld();
+        return world != null && world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+    }
+
+    private void removeEntitiesFor(Hologram holo) {
+        renderer.despawn(holo);
     }
 
     /**
      * Purge all TextDisplay/ArmorStand entities across all worlds that have any tag
      * starting with the HoloText prefix, regardless of whether a matching hologram
-     * exists in memory.
+     * exists in memory. Runs to completion on the calling tick; prefer
+     * {@link #startPurge} for commands.
      * @return number of entities removed
      */
     public int purgeAllTagged() {
-        int removed = 0;
-        for (World world : plugin.getServer().getWorlds()) {
-            for (TextDisplay td : world.getEntitiesByClass(TextDisplay.class)) {
-                boolean hasHoloTag = td.getScoreboardTags().stream().anyMatch(t -> t.startsWith("holotext:"));
-                if (hasHoloTag) {
-                    td.remove();
-                    removed++;
-                }
-            }
-            for (ArmorStand as : world.getEntitiesByClass(ArmorStand.class)) {
-                boolean hasHoloTag = as.getScoreboardTags().stream().anyMatch(t -> t.startsWith("holotext:"));
-                if (hasHoloTag) {
-                    as.remove();
-                    removed++;
-                }
-            }
-        }
-        return removed;
+        return newPurgeJob(plugin.getServer().getWorlds(), null, null).runToCompletion();
     }
 
     /**
-     * Purge all HoloText-tagged entities in the given world.
+     * Purge all HoloText-tagged entities in the given world on the calling tick.
      * @param world target world
      * @return number of entities removed
      */
     public int purgeTaggedInWorld(World world) {
-        int removed = 0;
-        for (TextDisplay td : world.getEntitiesByClass(TextDisplay.class)) {
-            boolean hasHoloTag = td.getScoreboardTags().stream().anyMatch(t -> t.startsWith("holotext:"));
-            if (hasHoloTag) {
-                td.remove();
-                removed++;
-            }
-        }
-        for (ArmorStand as : world.getEntitiesByClass(ArmorStand.class)) {
-            boolean hasHoloTag = as.getScoreboardTags().stream().anyMatch(t -> t.startsWith("holotext:"));
-            if (hasHoloTag) {
-                as.remove();
-                removed++;
-            }
-        }
-        return removed;
+        return newPurgeJob(List.of(world), null, null).runToCompletion();
+    }
+
+    /**
+     * Purge HoloText-tagged entities in the loaded chunks of the given worlds, spread over
+     * as many ticks as needed to stay within {@code purge.tick-budget-ms} per tick.
+     * @param worlds worlds to purge
+     * @param onProgress called every {@code purge.progress-interval-ticks} while running, may be {@code null}
+     * @param onComplete called with the number of removed entities when done, may be {@code null}
+     * @return the scheduled job
+     */
+    public PurgeJob startPurge(Collection<World> worlds, Consumer<PurgeJob> onProgress, IntConsumer onComplete) {
+        return newPurgeJob(worlds, onProgress, onComplete).start();
+    }
+
+    private PurgeJob newPurgeJob(Collection<World> worlds, Consumer<PurgeJob> onProgress, IntConsumer onComplete) {
+        long budgetNanos = (long) (plugin.getConfig().getDouble("purge.tick-budget-ms", 2.0) * 1_000_000L);
+        long interval = plugin.getConfig().getLong("purge.progress-interval-ticks", 40L);
+        return new PurgeJob(plugin, worlds, budgetNanos, interval, onProgress, onComplete, metrics);
     }
 
     /**
@@ -330,14 +857,16 @@ public class HologramManager {
         if (center == null || center.getWorld() == null || radius <= 0) return 0;
         World world = center.getWorld();
         int removed = 0;
+        // Orphans are unknown to the hologram index, so this sweep has to look at entities;
+        // the server already limits getNearbyEntities to the chunk sections in range
+        long start = System.nanoTime();
         for (Entity e : world.getNearbyEntities(center, radius, radius, radius)) {
-            boolean hasHoloTag = e.getScoreboardTags().stream().anyMatch(t -> t.startsWith("holotext:"));
-            if (!hasHoloTag) continue;
-            if (e instanceof TextDisplay || e instanceof ArmorStand) {
+            if (HologramRenderer.isHologramEntity(e)) {
                 e.remove();
                 removed++;
             }
         }
+        metrics.purged(System.nanoTime() - start, removed);
         return removed;
     }
 
@@ -355,25 +884,135 @@ public class HologramManager {
     }
 
     /**
-     * Reload {@code holograms.yml} from disk and spawn holograms defined therein.
-     * Clears current in-memory holograms map and respawns from config.
-     * @return number of holograms loaded after reset
+     * Reload from storage and respawn only the holograms that were added, changed or removed
+     * there; untouched holograms keep their entities. Only one reset runs at a time.
+     * @param onComplete called once the affected holograms are respawned, may be {@code null}
+     * @return false if a reset is already running
+     */
+    public boolean resetFromConfig(Consumer<ReloadSummary> onComplete) {
+        if (resetting) return false;
+        resetting = true;
+        // Write out pending changes first, then reload from storage to pick up any external edits
+        store.flushNow();
+        loadChanges().thenAccept(summary -> spawnQueue.whenIdle(() -> {
+            resetting = false;
+            if (onComplete != null) onComplete.accept(summary);
+        }));
+        return true;
+    }
+
+    /**
+     * Despawn everything, purge orphaned tagged entities, reload from storage and respawn,
+     * spread over as many ticks as the spawn and purge budgets require. Only one reset
+     * runs at a time.
+     * @param onComplete called with the number of loaded holograms once all of them are respawned, may be {@code null}
+     * @return false if a reset is already running
+     */
+    public boolean fullResetFromConfig(IntConsumer onComplete) {
+        if (resetting) return false;
+        resetting = true;
+        for (Map.Entry<String, Hologram> e : holograms.entrySet()) {
+            spawnQueue.cancel(e.getKey());
+            spawnQueue.despawn(e.getValue());
+        }
+        // Known holograms first, then a sweep for orphans whose hologram no longer exists
+        spawnQueue.whenIdle(() -> startPurge(plugin.getServer().getWorlds(), null, removed -> {
+            // Write out pending changes first, then reload from storage to pick up any external edits
+            store.flushNow();
+            loadAll().thenRun(() -> spawnQueue.whenIdle(() -> {
+                resetting = false;
+                if (onComplete != null) onComplete.accept(size());
+            }));
+        }));
+        return true;
+    }
+
+    /**
+     * Resolve a file name given to {@code /holo export} or {@code /holo import}.
+     * @param name plain file name ending in {@code .yml}
+     * @return file in the plugin folder, or {@code null} if the name contains a path or another extension
+     */
+    public File exchangeFile(String name) {
+        if (!name.matches("[A-Za-z0-9._-]+\\.yml")) return null;
+        return new File(plugin.getDataFolder(), name);
+    }
+
+    /**
+     * Write every loaded hologram to a YAML file in the {@code holograms.yml} layout, sorted by
+     * name and without entity handles. The file is written off the main thread.
+     * @param file target file
+     * @param onComplete called on the main thread with the number of exported holograms, or {@code null} if writing failed
+     * @return false if {@code file} is the data file of the YAML store
      */
-    public int resetFromConfig() {
-        // First purge all tagged entities across worlds to remove orphans
-        purgeAllTagged();
-        // Also despawn known holograms (redundant with purge, but safe if tags changed)
-        despawnAll();
-        // Reload YAML from disk to pick up any external edits
-        this.data = YamlConfiguration.loadConfiguration(dataFile);
-        // Rebuild in-memory state and respawn
-        loadAll();
-        return size();
+    public boolean exportYaml(File file, Consumer<Integer> onComplete) {
+        if (store instanceof YamlHologramStore && file.equals(dataFile)) return false;
+        List<HologramDefinition> defs = new ArrayList<>(holograms.size());
+        for (Hologram holo : holograms.values()) defs.add(HologramDefinition.of(holo).withEntityIds(List.of()));
+        defs.sort(Comparator.comparing(HologramDefinition::key));
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            Integer exported = null;
+            try {
+                YamlHologramCodec.writeFile(file.toPath(), defs);
+                exported = defs.size();
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to export holograms to " + file.getName() + ": " + e.getMessage());
+            }
+            Integer done = exported;
+            plugin.getServer().getScheduler().runTask(plugin, () -> onComplete.accept(done));
+        });
+        return true;
     }
 
-    // No Kyori Adventure: keep plain strings and colorize with Bukkit ChatColor
-    // Each line becomes an ArmorStand custom name, so no multi-line component needed
-    // (method removed)
+    /**
+     * Apply a YAML file in the {@code holograms.yml} layout and save the result to storage.
+     * The file is parsed off the main thread; added and changed holograms are then respawned
+     * as by {@link #resetFromConfig}. Entity handles in the file are ignored, and entries in
+     * worlds that are not loaded are skipped. Only one reset or import runs at a time.
+     * @param file source file
+     * @param replace also delete holograms that are not in the file
+     * @param onComplete called once the affected holograms are respawned, with {@code null} if the file could not be read
+     * @return false if a reset or import is already running
+     */
+    public boolean importYaml(File file, boolean replace, Consumer<ReloadSummary> onComplete) {
+        if (resetting) return false;
+        resetting = true;
+        CompletableFuture<Map<String, HologramDefinition>> read = new CompletableFuture<>();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            Map<String, HologramDefinition> defs = null;
+            try {
+                defs = YamlHologramCodec.readFileStrict(file.toPath(), plugin.getLogger());
+                if (defs == null) plugin.getLogger().warning(file.getName() + " has no 'holograms' section; nothing imported.");
+            } catch (IOException | YAMLException e) {
+                plugin.getLogger().severe("Could not read " + file.getName() + ": " + e.getMessage());
+            }
+            Map<String, HologramDefinition> done = defs;
+            plugin.getServer().getScheduler().runTask(plugin, () -> read.complete(done));
+        });
+        read.thenAccept(defs -> {
+            if (defs == null) {
+                resetting = false;
+                onComplete.accept(null);
+                return;
+            }
+            Map<String, HologramDefinition> merged = new LinkedHashMap<>();
+            if (!replace) {
+                for (Map.Entry<String, Hologram> e : holograms.entrySet()) merged.put(e.getKey(), HologramDefinition.of(e.getValue()));
+            }
+            for (HologramDefinition def : defs.values()) {
+                if (plugin.getServer().getWorld(def.world()) == null) {
+                    plugin.getLogger().warning("Skipping imported hologram '" + def.name() + "' due to missing world '" + def.world() + "'.");
+                    continue;
+                }
+                merged.put(def.key(), def.withEntityIds(List.of()));
+            }
+            ReloadSummary summary = applyLoaded(merged.values(), true);
+            spawnQueue.whenIdle(() -> {
+                resetting = false;
+                onComplete.accept(summary);
+            });
+        });
+        return true;
+    }
 
     /**
      * Parse a raw text argument into lines, splitting on {@code |} and trimming.
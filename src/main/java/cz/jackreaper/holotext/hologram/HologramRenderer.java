@@ -0,0 +1,304 @@
+package cz.jackreaper.holotext.hologram;
+
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Spawns, reconciles, and removes the line entities of a hologram.
+ *
+ * <p>Refreshes are applied in place: existing entities are reused, only lines whose
+ * text changed are re-rendered, entities are spawned or removed only when the line
+ * count changes, and the entity type is switched only when the static rotation flag flips.
+ *
+ * <p>In single-entity mode each hologram is one {@link TextDisplay} with newline-separated
+ * text; viewer-facing holograms use {@link Display.Billboard#CENTER} instead of ArmorStands,
+ * so a rotation flip only changes the billboard.
+ *
+ * <p>Displayed text comes from a line source (placeholders substituted), so the in-place
+ * diff also limits placeholder updates to the lines whose resolved text changed.
+ *
+ * <p>Text is applied as Adventure components from a shared {@link LineComponentCache}, so each
+ * distinct line is parsed once no matter how often it is spawned, respawned or re-applied.
+ */
+class HologramRenderer {
+    /** Vertical distance between stacked lines. */
+    static final double LINE_SPACING = 0.25;
+
+    /** Scoreboard tag prefix carried by every hologram line entity. */
+    static final String TAG_PREFIX = "holotext:";
+
+    /**
+     * Rendering settings read from {@code config.yml}.
+     * @param persistent whether spawned entities are saved with their chunk
+     * @param singleEntity render each hologram as one multi-line TextDisplay
+     * @param lineWidth TextDisplay line width in pixels before wrapping
+     * @param alignment TextDisplay text alignment
+     * @param textFormat markup of raw lines
+     * @param componentCacheSize number of distinct parsed lines to keep
+     */
+    record Options(boolean persistent, boolean singleEntity, int lineWidth, TextDisplay.TextAlignment alignment,
+                   LineComponentCache.Format textFormat, int componentCacheSize) {}
+
+    private final Plugin plugin;
+    private final Options options;
+    private final Predicate<Hologram> hiddenByDefault;
+    private final Function<Hologram, List<String>> lineSource;
+    private final LineComponentCache components;
+    private final HoloMetrics metrics;
+
+    /**
+     * @param plugin owning plugin
+     * @param options rendering settings
+     * @param hiddenByDefault holograms whose entities are spawned hidden and shown per player
+     * @param lineSource lines to display for a hologram
+     * @param metrics receives render timings and entity counts
+     */
+    HologramRenderer(Plugin plugin, Options options, Predicate<Hologram> hiddenByDefault,
+                     Function<Hologram, List<String>> lineSource, HoloMetrics metrics) {
+        this.plugin = plugin;
+        this.options = options;
+        this.hiddenByDefault = hiddenByDefault;
+        this.lineSource = lineSource;
+        this.components = new LineComponentCache(options.textFormat(), options.componentCacheSize());
+        this.metrics = metrics;
+    }
+
+    /**
+     * Bring the hologram's entities in line with its current definition.
+     * @param holo hologram to render
+     */
+    void render(Hologram holo) {
+        boolean spawning = holo.getEntityIds().isEmpty();
+        long start = System.nanoTime();
+        renderEntities(holo);
+        (spawning ? metrics.spawn : metrics.refresh).record(System.nanoTime() - start);
+    }
+
+    private void renderEntities(Hologram holo) {
+        World world = holo.getLocation().getWorld();
+        if (world == null) return;
+        if (options.singleEntity()) {
+            renderSingle(holo, world);
+            return;
+        }
+
+        List<Entity> current = resolve(holo, world);
+        List<String> previous = holo.getRenderedLines();
+        if (current == null) {
+            // Missing handles, dead entities, world change or rotation flip: start from scratch
+            despawn(holo);
+            current = List.of();
+            previous = null;
+        }
+
+        List<String> lines = lineSource.apply(holo);
+        Location base = holo.getLocation();
+        List<UUID> ids = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String raw = lines.get(i);
+            Location lineLoc = lineLocation(base, i, lines.size());
+            if (i < current.size()) {
+                Entity e = current.get(i);
+                // Line count changes shift every line, so only move what is out of place
+                if (isMisplaced(e.getLocation(), lineLoc, holo.isStaticRotation())) {
+                    e.teleport(lineLoc);
+                }
+                if (e instanceof TextDisplay td && td.getBillboard() != Display.Billboard.FIXED) {
+                    td.setBillboard(Display.Billboard.FIXED);
+                }
+                if (previous == null || i >= previous.size() || !previous.get(i).equals(raw)) {
+                    applyText(e, raw);
+                }
+                ids.add(e.getUniqueId());
+            } else {
+                ids.add(spawnLine(holo, world, lineLoc, raw).getUniqueId());
+            }
+        }
+        for (int i = lines.size(); i < current.size(); i++) {
+            current.get(i).remove();
+            metrics.entitiesRemoved(1);
+        }
+        holo.setEntityIds(ids);
+        holo.setRenderedLines(List.copyOf(lines));
+    }
+
+    private void renderSingle(Hologram holo, World world) {
+        List<String> lines = lineSource.apply(holo);
+        Location base = holo.getLocation();
+        Display.Billboard billboard = holo.isStaticRotation() ? Display.Billboard.FIXED : Display.Billboard.CENTER;
+        TextDisplay display = resolveSingle(holo, world);
+        if (display == null) {
+            despawn(holo);
+            Component text = components.get(String.join("\n", lines));
+            boolean visible = !hiddenByDefault.test(holo);
+            display = world.spawn(base, TextDisplay.class, td -> {
+                td.setBillboard(billboard);
+                td.setRotation(base.getYaw(), base.getPitch());
+                td.text(text);
+                applyLayout(td);
+                td.addScoreboardTag(tagFor(holo.getName()));
+                td.setPersistent(options.persistent());
+                td.setVisibleByDefault(visible);
+            });
+            metrics.entitiesSpawned(1);
+        } else {
+            if (isMisplaced(display.getLocation(), base, holo.isStaticRotation())) {
+                display.teleport(base);
+            }
+            // A rotation flip is just a billboard change; no entity swap needed
+            if (display.getBillboard() != billboard) display.setBillboard(billboard);
+            if (!lines.equals(holo.getRenderedLines())) display.text(components.get(String.join("\n", lines)));
+        }
+        holo.setEntityIds(List.of(display.getUniqueId()));
+        holo.setRenderedLines(List.copyOf(lines));
+    }
+
+    private TextDisplay resolveSingle(Hologram holo, World world) {
+        List<UUID> ids = holo.getEntityIds();
+        if (ids.size() != 1) return null;
+        Entity e = plugin.getServer().getEntity(ids.get(0));
+        if (!(e instanceof TextDisplay td) || !e.isValid() || !world.equals(e.getWorld())) return null;
+        return td;
+    }
+
+    private void applyLayout(TextDisplay td) {
+        td.setLineWidth(options.lineWidth());
+        td.setAlignment(options.alignment());
+    }
+
+    /**
+     * Remove every line entity of the hologram and forget its handles.
+     * @param holo hologram to despawn
+     */
+    void despawn(Hologram holo) {
+        List<UUID> ids = holo.getEntityIds();
+        if (ids.isEmpty()) {
+            // No recorded handles (e.g. data written by an older version): fall back to the tag
+            removeTaggedInChunk(holo);
+        } else {
+            // Direct lookups by UUID: cost scales with line count, not with world entity count
+            for (UUID id : ids) {
+                Entity e = plugin.getServer().getEntity(id);
+                if (e != null) {
+                    e.remove();
+                    metrics.entitiesRemoved(1);
+                }
+            }
+        }
+        holo.setEntityIds(List.of());
+        holo.setRenderedLines(null);
+    }
+
+    /**
+     * Resolve the recorded handles into live entities that can be updated in place.
+     * @return entities in line order, or {@code null} if they cannot be reused
+     */
+    private List<Entity> resolve(Hologram holo, World world) {
+        List<UUID> ids = holo.getEntityIds();
+        if (ids.isEmpty()) return null;
+        Class<? extends Entity> expected = holo.isStaticRotation() ? TextDisplay.class : ArmorStand.class;
+        List<Entity> entities = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            Entity e = plugin.getServer().getEntity(id);
+            if (e == null || !e.isValid() || !expected.isInstance(e) || !world.equals(e.getWorld())) return null;
+            entities.add(e);
+        }
+        return entities;
+    }
+
+    private Entity spawnLine(Hologram holo, World world, Location lineLoc, String raw) {
+        metrics.entitiesSpawned(1);
+        Component text = components.get(raw);
+        boolean visible = !hiddenByDefault.test(holo);
+        if (holo.isStaticRotation()) {
+            // Use TextDisplay with FIXED billboard and set rotation to location yaw/pitch
+            return world.spawn(lineLoc, TextDisplay.class, td -> {
+                td.setBillboard(Display.Billboard.FIXED);
+                td.setRotation(lineLoc.getYaw(), lineLoc.getPitch());
+                td.text(text);
+                applyLayout(td);
+                td.addScoreboardTag(tagFor(holo.getName()));
+                td.setPersistent(options.persistent());
+                td.setVisibleByDefault(visible);
+            });
+        }
+        // Default: ArmorStand nameplates which always face the viewer
+        return world.spawn(lineLoc, ArmorStand.class, as -> {
+            as.setInvisible(true);
+            as.setMarker(true);
+            as.setGravity(false);
+            as.setCustomNameVisible(true);
+            as.customName(text);
+            as.addScoreboardTag(tagFor(holo.getName()));
+            as.setPersistent(options.persistent());
+            as.setVisibleByDefault(visible);
+        });
+    }
+
+    private void applyText(Entity e, String raw) {
+        Component text = components.get(raw);
+        if (e instanceof TextDisplay td) {
+            td.text(text);
+        } else {
+            e.customName(text);
+        }
+    }
+
+    private void removeTaggedInChunk(Hologram holo) {
+        Location loc = holo.getLocation();
+        World world = loc.getWorld();
+        if (world == null) return;
+        // All line entities share the base x/z, so they live in the base chunk
+        int cx = loc.getBlockX() >> 4;
+        int cz = loc.getBlockZ() >> 4;
+        if (!world.isChunkLoaded(cx, cz)) return;
+        String tag = tagFor(holo.getName());
+        for (Entity e : world.getChunkAt(cx, cz).getEntities()) {
+            if ((e instanceof TextDisplay || e instanceof ArmorStand) && e.getScoreboardTags().contains(tag)) {
+                e.remove();
+                metrics.entitiesRemoved(1);
+            }
+        }
+    }
+
+    private static boolean isMisplaced(Location actual, Location target, boolean checkRotation) {
+        if (actual.distanceSquared(target) > 1.0E-6) return true;
+        return checkRotation && (actual.getYaw() != target.getYaw() || actual.getPitch() != target.getPitch());
+    }
+
+    /**
+     * Lines are stacked upward from the base location, so the last line sits at the base.
+     */
+    static Location lineLocation(Location base, int index, int lineCount) {
+        return base.clone().add(0, (lineCount - 1 - index) * LINE_SPACING, 0);
+    }
+
+    static String tagFor(String name) {
+        return TAG_PREFIX + name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return true if the entity is a TextDisplay/ArmorStand carrying a HoloText tag
+     */
+    static boolean isHologramEntity(Entity e) {
+        if (!(e instanceof TextDisplay) && !(e instanceof ArmorStand)) return false;
+        for (String tag : e.getScoreboardTags()) {
+            if (tag.startsWith(TAG_PREFIX)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,204 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Immutable point-in-time view of all holograms, safe to read from any thread without locks.
+ *
+ * <p>Published by {@link HologramManager} at most once per tick after a change. Each
+ * publish copies only the top-level maps and the chunk buckets that changed; holograms
+ * themselves are detached copies, so later edits to the live holograms never show through.
+ */
+public final class HologramSnapshot {
+    static final HologramSnapshot EMPTY = new HologramSnapshot(Map.of(), Map.of());
+
+    private final Map<String, Hologram> byKey;
+    // world name -> packed chunk key -> holograms whose base lies in that chunk
+    private final Map<String, Map<Long, List<Hologram>>> byChunk;
+
+    private HologramSnapshot(Map<String, Hologram> byKey, Map<String, Map<Long, List<Hologram>>> byChunk) {
+        this.byKey = byKey;
+        this.byChunk = byChunk;
+    }
+
+    /**
+     * @param name hologram name (case-insensitive)
+     * @return the hologram as of this snapshot
+     */
+    public Optional<Hologram> get(String name) {
+        return Optional.ofNullable(byKey.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * @return lower-case keys of all holograms in this snapshot
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(byKey.keySet());
+    }
+
+    /**
+     * @return number of holograms in this snapshot
+     */
+    public int size() {
+        return byKey.size();
+    }
+
+    /**
+     * @param center center location
+     * @param radius radius in blocks
+     * @return holograms whose base location is within {@code radius} of {@code center}
+     */
+    public List<Hologram> nearby(Location center, double radius) {
+        if (center == null || center.getWorld() == null || radius < 0) return List.of();
+        double r2 = radius * radius;
+        List<Hologram> result = new ArrayList<>();
+        forEachInRange(center.getWorld().getName(),
+                (int) Math.floor(center.getX() - radius) >> 4, (int) Math.floor(center.getZ() - radius) >> 4,
+                (int) Math.floor(center.getX() + radius) >> 4, (int) Math.floor(center.getZ() + radius) >> 4, holo -> {
+            if (holo.getLocation().distanceSquared(center) <= r2) result.add(holo);
+        });
+        return result;
+    }
+
+    /**
+     * @param world world to search
+     * @param box axis-aligned box
+     * @return holograms whose base location lies inside {@code box}
+     */
+    public List<Hologram> within(World world, BoundingBox box) {
+        if (world == null || box == null) return List.of();
+        List<Hologram> result = new ArrayList<>();
+        forEachInRange(world.getName(),
+                (int) Math.floor(box.getMinX()) >> 4, (int) Math.floor(box.getMinZ()) >> 4,
+                (int) Math.floor(box.getMaxX()) >> 4, (int) Math.floor(box.getMaxZ()) >> 4, holo -> {
+            Location loc = holo.getLocation();
+            if (box.contains(loc.getX(), loc.getY(), loc.getZ())) result.add(holo);
+        });
+        return result;
+    }
+
+    /**
+     * @return number of holograms per world name
+     */
+    public Map<String, Integer> hologramsPerWorld() {
+        Map<String, Integer> out = new TreeMap<>();
+        for (Map.Entry<String, Map<Long, List<Hologram>>> e : byChunk.entrySet()) {
+            int count = 0;
+            for (List<Hologram> holos : e.getValue().values()) count += holos.size();
+            out.put(e.getKey(), count);
+        }
+        return out;
+    }
+
+    /**
+     * @return number of recorded line entities per world name
+     */
+    public Map<String, Integer> entitiesPerWorld() {
+        Map<String, Integer> out = new TreeMap<>();
+        for (Map.Entry<String, Map<Long, List<Hologram>>> e : byChunk.entrySet()) {
+            int count = 0;
+            for (List<Hologram> holos : e.getValue().values()) {
+                for (Hologram holo : holos) count += holo.getEntityIds().size();
+            }
+            out.put(e.getKey(), count);
+        }
+        return out;
+    }
+
+    private void forEachInRange(String world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, Consumer<Hologram> action) {
+        Map<Long, List<Hologram>> chunks = byChunk.get(world);
+        if (chunks == null || minChunkX > maxChunkX || minChunkZ > maxChunkZ) return;
+        long area = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (area <= chunks.size()) {
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    List<Hologram> holos = chunks.get(ChunkIndex.chunkKey(x, z));
+                    if (holos != null) holos.forEach(action);
+                }
+            }
+            return;
+        }
+        for (Map.Entry<Long, List<Hologram>> e : chunks.entrySet()) {
+            long ck = e.getKey();
+            int x = (int) (ck >> 32);
+            int z = (int) ck;
+            if (x >= minChunkX && x <= maxChunkX && z >= minChunkZ && z <= maxChunkZ) {
+                e.getValue().forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Derive a new snapshot with some holograms replaced. Main thread only.
+     * @param changes key to live hologram, or to {@code null} for a removed one
+     * @return new snapshot; this one is left untouched
+     */
+    HologramSnapshot with(Map<String, Hologram> changes) {
+        Map<String, Hologram> keys = new HashMap<>(byKey);
+        Map<String, Map<Long, List<Hologram>>> chunks = new HashMap<>(byChunk);
+        Set<String> copiedWorlds = new HashSet<>();
+        // Identity set: buckets are lists, whose equals/hashCode follow their changing contents
+        Set<List<Hologram>> copiedBuckets = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<String, Hologram> e : changes.entrySet()) {
+            Hologram old = keys.remove(e.getKey());
+            if (old != null) bucket(chunks, copiedWorlds, copiedBuckets, old).remove(old);
+            if (e.getValue() == null) continue;
+            Hologram copy = detach(e.getValue());
+            keys.put(e.getKey(), copy);
+            bucket(chunks, copiedWorlds, copiedBuckets, copy).add(copy);
+        }
+        // Drop buckets emptied by removals so range walks stay proportional to occupied chunks
+        for (String world : copiedWorlds) {
+            Map<Long, List<Hologram>> worldChunks = chunks.get(world);
+            worldChunks.values().removeIf(List::isEmpty);
+            if (worldChunks.isEmpty()) chunks.remove(world);
+        }
+        return new HologramSnapshot(keys, chunks);
+    }
+
+    // Copy-on-write: the world map and the chunk bucket are copied the first time they are touched
+    private static List<Hologram> bucket(Map<String, Map<Long, List<Hologram>>> chunks, Set<String> copiedWorlds,
+                                         Set<List<Hologram>> copiedBuckets, Hologram holo) {
+        Location loc = holo.getLocation();
+        String world = loc.getWorld().getName();
+        Map<Long, List<Hologram>> worldChunks = chunks.get(world);
+        if (copiedWorlds.add(world)) {
+            worldChunks = worldChunks != null ? new HashMap<>(worldChunks) : new HashMap<>();
+            chunks.put(world, worldChunks);
+        }
+        long ck = ChunkIndex.chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        List<Hologram> holos = worldChunks.get(ck);
+        if (holos == null || !copiedBuckets.contains(holos)) {
+            holos = holos != null ? new ArrayList<>(holos) : new ArrayList<>();
+            copiedBuckets.add(holos);
+            worldChunks.put(ck, holos);
+        }
+        return holos;
+    }
+
+    /**
+     * Copy a live hologram so that later changes to it do not show through.
+     * @param live hologram owned by the manager
+     * @return detached copy
+     */
+    public static Hologram detach(Hologram live) {
+        Hologram copy = new Hologram(live.getName(), live.getLocation().clone(), List.copyOf(live.getLines()), live.isStaticRotation());
+        copy.setEntityIds(live.getEntityIds());
+        return copy;
+    }
+}
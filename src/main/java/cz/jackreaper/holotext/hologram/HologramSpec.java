@@ -0,0 +1,21 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Location;
+
+import java.util.List;
+
+/**
+ * Input for creating a hologram in a batch.
+ *
+ * @param name unique hologram name
+ * @param location spawn location (copied)
+ * @param lines raw text lines (copied)
+ * @param staticRotation true for fixed rotation, false for viewer-facing
+ */
+public record HologramSpec(String name, Location location, List<String> lines, boolean staticRotation) {
+
+    public HologramSpec {
+        location = location.clone();
+        lines = List.copyOf(lines);
+    }
+}
@@ -0,0 +1,68 @@
+package cz.jackreaper.holotext.hologram;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Parses raw hologram text into Adventure components once per distinct string.
+ *
+ * <p>Shared by all holograms, so identical lines (and identical placeholder values or
+ * animation frames) reuse one component instance across spawns, respawns and updates.
+ * Entries are evicted least-recently-used beyond the configured size. Main thread only.
+ */
+class LineComponentCache {
+    /** Markup understood in raw lines. */
+    enum Format {
+        /** {@code &} (or {@code §}) color codes, plus {@code &#rrggbb} hex colors. */
+        LEGACY,
+        /** MiniMessage tags such as {@code <gold>} or {@code <#ff8800>}. */
+        MINIMESSAGE
+    }
+
+    private final Function<String, Component> parser;
+    private final Map<String, Component> cache;
+
+    /**
+     * @param format markup of raw lines
+     * @param maxEntries number of distinct strings to keep
+     */
+    LineComponentCache(Format format, int maxEntries) {
+        if (format == Format.MINIMESSAGE) {
+            MiniMessage mm = MiniMessage.miniMessage();
+            this.parser = mm::deserialize;
+        } else {
+            LegacyComponentSerializer legacy = LegacyComponentSerializer.builder()
+                    .character('&')
+                    .hexColors()
+                    .useUnusualXRepeatedCharacterHexFormat()
+                    .build();
+            // Section signs were accepted by the old ChatColor path, so keep reading them
+            this.parser = raw -> legacy.deserialize(raw.indexOf('§') >= 0 ? raw.replace('§', '&') : raw);
+        }
+        int max = Math.max(16, maxEntries);
+        this.cache = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /**
+     * @param raw raw text; may contain newlines
+     * @return parsed component, shared with every other caller passing the same text
+     */
+    Component get(String raw) {
+        Component c = cache.get(raw);
+        if (c == null) {
+            c = parser.apply(raw);
+            cache.put(raw, c);
+        }
+        return c;
+    }
+}
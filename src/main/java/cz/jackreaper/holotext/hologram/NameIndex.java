@@ -0,0 +1,54 @@
+package cz.jackreaper.holotext.hologram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Sorted index of hologram keys for prefix lookups.
+ *
+ * <p>Maintained by {@link HologramManager} alongside the {@link ChunkIndex}. A prefix query
+ * seeks to the first key at or after the prefix and walks forward only while keys still
+ * match, so tab completion costs {@code O(log n + k)} instead of scanning every name.
+ */
+class NameIndex {
+    private final TreeSet<String> keys = new TreeSet<>();
+
+    void add(String key) {
+        keys.add(key);
+    }
+
+    void remove(String key) {
+        keys.remove(key);
+    }
+
+    void clear() {
+        keys.clear();
+    }
+
+    /**
+     * @param prefix lower-case prefix; empty matches everything
+     * @param limit maximum number of results
+     * @return up to {@code limit} matching keys in sorted order
+     */
+    List<String> complete(String prefix, int limit) {
+        List<String> out = new ArrayList<>(Math.min(limit, 64));
+        for (String key : keys.tailSet(prefix, true)) {
+            if (out.size() >= limit || !key.startsWith(prefix)) break;
+            out.add(key);
+        }
+        return out;
+    }
+
+    /**
+     * @param prefix lower-case prefix; empty matches everything
+     * @return sorted live view of the matching keys (do not modify)
+     */
+    NavigableSet<String> withPrefix(String prefix) {
+        if (prefix.isEmpty()) return Collections.unmodifiableNavigableSet(keys);
+        // Every key starting with the prefix sorts below prefix + the largest char
+        return Collections.unmodifiableNavigableSet(keys.subSet(prefix, true, prefix + Character.MAX_VALUE, false));
+    }
+}
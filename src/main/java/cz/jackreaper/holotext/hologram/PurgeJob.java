@@ -0,0 +1,136 @@
+package cz.jackreaper.holotext.hologram;
+
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Removes HoloText-tagged entities chunk by chunk under a per-tick time budget.
+ *
+ * <p>The chunks loaded when the job is created are queued up front. Each tick the job
+ * scans whole chunks until the budget is used up, so a large world is spread over many
+ * ticks instead of freezing one. Chunks that unload in the meantime are skipped and
+ * never loaded by the job.
+ */
+public class PurgeJob extends BukkitRunnable {
+    private record ChunkRef(World world, int x, int z) {}
+
+    private final Plugin plugin;
+    private final Deque<ChunkRef> queue = new ArrayDeque<>();
+    private final int totalChunks;
+    private final long budgetNanos;
+    private final long progressIntervalTicks;
+    private final Consumer<PurgeJob> onProgress;
+    private final IntConsumer onComplete;
+    private final HoloMetrics metrics;
+    private int processedChunks;
+    private int removed;
+    private long scanNanos;
+    private long ticks;
+
+    /**
+     * @param plugin owning plugin
+     * @param worlds worlds whose loaded chunks are purged
+     * @param budgetNanos scan time allowed per tick
+     * @param progressIntervalTicks ticks between progress callbacks
+     * @param onProgress progress callback (main thread), may be {@code null}
+     * @param onComplete completion callback receiving the number of removed entities, may be {@code null}
+     * @param metrics receives scan time and removed count when the job finishes
+     */
+    public PurgeJob(Plugin plugin, Collection<World> worlds, long budgetNanos, long progressIntervalTicks,
+                    Consumer<PurgeJob> onProgress, IntConsumer onComplete, HoloMetrics metrics) {
+        this.plugin = plugin;
+        for (World world : worlds) {
+            for (Chunk chunk : world.getLoadedChunks()) {
+                queue.add(new ChunkRef(world, chunk.getX(), chunk.getZ()));
+            }
+        }
+        this.totalChunks = queue.size();
+        this.budgetNanos = Math.max(1L, budgetNanos);
+        this.progressIntervalTicks = Math.max(1L, progressIntervalTicks);
+        this.onProgress = onProgress;
+        this.onComplete = onComplete;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Schedule the job to run every tick until done.
+     * @return this job
+     */
+    public PurgeJob start() {
+        runTaskTimer(plugin, 1L, 1L);
+        return this;
+    }
+
+    /**
+     * Process every queued chunk immediately, ignoring the budget.
+     * @return number of removed entities
+     */
+    public int runToCompletion() {
+        long start = System.nanoTime();
+        while (!queue.isEmpty()) processNext();
+        scanNanos += System.nanoTime() - start;
+        metrics.purged(scanNanos, removed);
+        return removed;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            processNext();
+        }
+        scanNanos += System.nanoTime() - start;
+        ticks++;
+        if (queue.isEmpty()) {
+            cancel();
+            metrics.purged(scanNanos, removed);
+            if (onComplete != null) onComplete.accept(removed);
+        } else if (onProgress != null && ticks % progressIntervalTicks == 0) {
+            onProgress.accept(this);
+        }
+    }
+
+    private void processNext() {
+        ChunkRef ref = queue.poll();
+        processedChunks++;
+        if (!ref.world().isChunkLoaded(ref.x(), ref.z())) return;
+        for (Entity e : ref.world().getChunkAt(ref.x(), ref.z()).getEntities()) {
+            if (HologramRenderer.isHologramEntity(e)) {
+                e.remove();
+                removed++;
+            }
+        }
+    }
+
+    /**
+     * @return number of chunks scanned so far
+     */
+    public int getProcessedChunks() {
+        return processedChunks;
+    }
+
+    /**
+     * @return number of chunks queued when the job was created
+     */
+    public int getTotalChunks() {
+        return totalChunks;
+    }
+
+    /**
+     * @return number of entities removed so far
+     */
+    public int getRemoved() {
+        return removed;
+    }
+}
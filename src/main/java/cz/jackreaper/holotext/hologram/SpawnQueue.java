@@ -0,0 +1,174 @@
+package cz.jackreaper.holotext.hologram;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies bulk spawns and despawns a few holograms at a time under a per-tick time budget.
+ *
+ * <p>Queued despawns run before queued spawns. Spawns are ordered by distance to the
+ * nearest online player in the same world, re-ranked whenever new keys are queued and
+ * once per second while work remains, so holograms players can see appear first. Spawns
+ * are queued by key and resolved when processed, so a hologram deleted or replaced in the
+ * meantime is skipped or spawned in its current form. The timer only runs while work is queued.
+ */
+class SpawnQueue {
+    private static final long RERANK_INTERVAL_TICKS = 20L;
+
+    private record Ranked(String key, double distanceSquared) {}
+
+    private final Plugin plugin;
+    private final long budgetNanos;
+    private final Function<String, Hologram> lookup;
+    private final Consumer<Hologram> spawner;
+    private final Consumer<Hologram> despawner;
+    private final Set<String> spawns = new HashSet<>();
+    private final Deque<Hologram> despawns = new ArrayDeque<>();
+    private final List<Runnable> idleCallbacks = new ArrayList<>();
+    private List<Ranked> order = List.of();
+    private int cursor;
+    private boolean rerank;
+    private long ticksSinceRank;
+    private BukkitTask task;
+
+    /**
+     * @param plugin owning plugin
+     * @param budgetNanos time allowed per tick
+     * @param lookup resolves a queued key to the currently tracked hologram
+     * @param spawner spawns or refreshes a hologram
+     * @param despawner removes a hologram's entities
+     */
+    SpawnQueue(Plugin plugin, long budgetNanos, Function<String, Hologram> lookup,
+               Consumer<Hologram> spawner, Consumer<Hologram> despawner) {
+        this.plugin = plugin;
+        this.budgetNanos = Math.max(1L, budgetNanos);
+        this.lookup = lookup;
+        this.spawner = spawner;
+        this.despawner = despawner;
+    }
+
+    /**
+     * Queue a hologram to be spawned or refreshed.
+     * @param key lower-case hologram key
+     */
+    void spawn(String key) {
+        if (spawns.add(key)) rerank = true;
+        ensureRunning();
+    }
+
+    /**
+     * Queue the entities of a hologram for removal.
+     * @param holo hologram to despawn; may already be untracked
+     */
+    void despawn(Hologram holo) {
+        despawns.add(holo);
+        ensureRunning();
+    }
+
+    /**
+     * Drop a pending spawn, e.g. because the hologram was deleted.
+     * @param key lower-case hologram key
+     */
+    void cancel(String key) {
+        spawns.remove(key);
+    }
+
+    /**
+     * @return number of queued spawns and despawns
+     */
+    int pending() {
+        return spawns.size() + despawns.size();
+    }
+
+    /**
+     * Run a callback on the main thread once the queue has drained; immediately if it is empty.
+     * @param callback action to run
+     */
+    void whenIdle(Runnable callback) {
+        if (pending() == 0) callback.run();
+        else idleCallbacks.add(callback);
+    }
+
+    /**
+     * Stop processing and drop all queued work and callbacks.
+     */
+    void clear() {
+        spawns.clear();
+        despawns.clear();
+        idleCallbacks.clear();
+        order = List.of();
+        cursor = 0;
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void ensureRunning() {
+        if (task == null) task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        long deadline = System.nanoTime() + budgetNanos;
+        while (!despawns.isEmpty() && System.nanoTime() < deadline) {
+            despawner.accept(despawns.poll());
+        }
+        if (despawns.isEmpty() && !spawns.isEmpty()) {
+            if (rerank || ++ticksSinceRank >= RERANK_INTERVAL_TICKS) rank();
+            while (cursor < order.size() && System.nanoTime() < deadline) {
+                String key = order.get(cursor++).key();
+                if (!spawns.remove(key)) continue;
+                Hologram holo = lookup.apply(key);
+                if (holo != null) spawner.accept(holo);
+            }
+        }
+        if (pending() > 0) return;
+        task.cancel();
+        task = null;
+        order = List.of();
+        cursor = 0;
+        List<Runnable> callbacks = new ArrayList<>(idleCallbacks);
+        idleCallbacks.clear();
+        for (Runnable callback : callbacks) callback.run();
+    }
+
+    private void rank() {
+        Map<World, List<Location>> viewers = new HashMap<>();
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            viewers.computeIfAbsent(player.getWorld(), w -> new ArrayList<>()).add(player.getLocation());
+        }
+        List<Ranked> ranked = new ArrayList<>(spawns.size());
+        for (String key : spawns) {
+            Hologram holo = lookup.apply(key);
+            ranked.add(new Ranked(key, holo == null ? Double.MAX_VALUE : nearestViewer(holo.getLocation(), viewers)));
+        }
+        ranked.sort(Comparator.comparingDouble(Ranked::distanceSquared));
+        order = ranked;
+        cursor = 0;
+        rerank = false;
+        ticksSinceRank = 0L;
+    }
+
+    private static double nearestViewer(Location loc, Map<World, List<Location>> viewers) {
+        List<Location> inWorld = viewers.get(loc.getWorld());
+        if (inWorld == null) return Double.MAX_VALUE;
+        double best = Double.MAX_VALUE;
+        for (Location viewer : inWorld) best = Math.min(best, viewer.distanceSquared(loc));
+        return best;
+    }
+}
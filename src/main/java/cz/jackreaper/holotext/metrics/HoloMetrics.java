@@ -0,0 +1,136 @@
+package cz.jackreaper.holotext.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime counters for rendering, persistence and purging.
+ *
+ * <p>Recording is lock-free and allocation-free ({@link LongAdder}/{@link LongAccumulator}),
+ * so it is safe from the main thread and the storage worker alike. Values accumulate from
+ * plugin start; readers see a consistent-enough view without pausing writers.
+ */
+public final class HoloMetrics {
+    /**
+     * Count, total and maximum duration of one kind of operation.
+     */
+    public static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        /**
+         * @param nanos duration of one operation
+         */
+        public void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        /**
+         * @return number of recorded operations
+         */
+        public long count() {
+            return count.sum();
+        }
+
+        /**
+         * @return summed duration in nanoseconds
+         */
+        public long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * @return longest single duration in nanoseconds
+         */
+        public long maxNanos() {
+            return maxNanos.get();
+        }
+
+        /**
+         * @return mean duration in milliseconds, {@code 0} if nothing was recorded
+         */
+        public double meanMillis() {
+            long n = count();
+            return n == 0 ? 0.0 : totalNanos() / (double) n / 1_000_000.0;
+        }
+    }
+
+    /** Renders that had to spawn the hologram from scratch. */
+    public final Timer spawn = new Timer();
+    /** Renders that updated existing line entities in place. */
+    public final Timer refresh = new Timer();
+    /** Storage writes (snapshot rewrites, journal appends, database batches). */
+    public final Timer save = new Timer();
+    /** Completed purge runs; duration is the time spent scanning, not wall time. */
+    public final Timer purge = new Timer();
+
+    private final LongAdder entitiesSpawned = new LongAdder();
+    private final LongAdder entitiesRemoved = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder purgedEntities = new LongAdder();
+
+    /**
+     * @param n line entities spawned
+     */
+    public void entitiesSpawned(int n) {
+        entitiesSpawned.add(n);
+    }
+
+    /**
+     * @param n line entities removed by rendering or despawning
+     */
+    public void entitiesRemoved(int n) {
+        entitiesRemoved.add(n);
+    }
+
+    /**
+     * Record one storage write.
+     * @param nanos write duration
+     * @param bytes bytes handed to the file or database
+     */
+    public void saved(long nanos, long bytes) {
+        save.record(nanos);
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Record one finished purge.
+     * @param nanos time spent scanning
+     * @param removed tagged entities removed
+     */
+    public void purged(long nanos, int removed) {
+        purge.record(nanos);
+        purgedEntities.add(removed);
+    }
+
+    /**
+     * @return line entities spawned since start
+     */
+    public long getEntitiesSpawned() {
+        return entitiesSpawned.sum();
+    }
+
+    /**
+     * @return line entities removed since start, excluding purges
+     */
+    public long getEntitiesRemoved() {
+        return entitiesRemoved.sum();
+    }
+
+    /**
+     * @return bytes written to storage since start
+     */
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    /**
+     * @return tagged entities removed by purges since start
+     */
+    public long getPurgedEntities() {
+        return purgedEntities.sum();
+    }
+}
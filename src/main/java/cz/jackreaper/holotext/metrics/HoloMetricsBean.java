@@ -0,0 +1,79 @@
+package cz.jackreaper.holotext.metrics;
+
+import cz.jackreaper.holotext.hologram.HologramSnapshot;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Exposes {@link HoloMetrics} and per-world gauges over JMX. Per-world counts are read from
+ * the latest {@link HologramSnapshot}, so JMX clients never touch main-thread state.
+ */
+public final class HoloMetricsBean implements HoloMetricsMXBean {
+    private static final String OBJECT_NAME = "cz.jackreaper.holotext:type=Metrics";
+
+    private final HoloMetrics metrics;
+    private final Supplier<HologramSnapshot> snapshot;
+
+    /**
+     * @param metrics counters to expose
+     * @param snapshot supplies the latest hologram snapshot
+     */
+    public HoloMetricsBean(HoloMetrics metrics, Supplier<HologramSnapshot> snapshot) {
+        this.metrics = metrics;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Register with the platform MBean server, replacing a bean left over from a previous enable.
+     * @param logger receives a warning if registration fails
+     */
+    public void register(Logger logger) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            logger.warning("Could not register metrics MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove the bean from the platform MBean server.
+     */
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (JMException ignored) {
+            // Never registered, or already removed
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override public long getSpawnCount() { return metrics.spawn.count(); }
+    @Override public double getSpawnTotalMillis() { return millis(metrics.spawn.totalNanos()); }
+    @Override public double getSpawnMaxMillis() { return millis(metrics.spawn.maxNanos()); }
+    @Override public long getRefreshCount() { return metrics.refresh.count(); }
+    @Override public double getRefreshTotalMillis() { return millis(metrics.refresh.totalNanos()); }
+    @Override public double getRefreshMaxMillis() { return millis(metrics.refresh.maxNanos()); }
+    @Override public long getEntitiesSpawned() { return metrics.getEntitiesSpawned(); }
+    @Override public long getEntitiesRemoved() { return metrics.getEntitiesRemoved(); }
+    @Override public long getSaveCount() { return metrics.save.count(); }
+    @Override public double getSaveTotalMillis() { return millis(metrics.save.totalNanos()); }
+    @Override public double getSaveMaxMillis() { return millis(metrics.save.maxNanos()); }
+    @Override public long getBytesWritten() { return metrics.getBytesWritten(); }
+    @Override public long getPurgeCount() { return metrics.purge.count(); }
+    @Override public double getPurgeTotalMillis() { return millis(metrics.purge.totalNanos()); }
+    @Override public long getPurgedEntities() { return metrics.getPurgedEntities(); }
+    @Override public Map<String, Integer> getHologramsPerWorld() { return snapshot.get().hologramsPerWorld(); }
+    @Override public Map<String, Integer> getEntitiesPerWorld() { return snapshot.get().entitiesPerWorld(); }
+}
@@ -0,0 +1,43 @@
+package cz.jackreaper.holotext.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link HoloMetrics}, registered as {@code cz.jackreaper.holotext:type=Metrics}.
+ * Durations are in milliseconds; counters accumulate from plugin start.
+ */
+public interface HoloMetricsMXBean {
+    long getSpawnCount();
+
+    double getSpawnTotalMillis();
+
+    double getSpawnMaxMillis();
+
+    long getRefreshCount();
+
+    double getRefreshTotalMillis();
+
+    double getRefreshMaxMillis();
+
+    long getEntitiesSpawned();
+
+    long getEntitiesRemoved();
+
+    long getSaveCount();
+
+    double getSaveTotalMillis();
+
+    double getSaveMaxMillis();
+
+    long getBytesWritten();
+
+    long getPurgeCount();
+
+    double getPurgeTotalMillis();
+
+    long getPurgedEntities();
+
+    Map<String, Integer> getHologramsPerWorld();
+
+    Map<String, Integer> getEntitiesPerWorld();
+}
@@ -0,0 +1,123 @@
+package cz.jackreaper.holotext.metrics;
+
+import cz.jackreaper.holotext.hologram.HologramSnapshot;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Periodically writes {@link HoloMetrics} in the Prometheus text exposition format, for
+ * node_exporter's textfile collector or any scraper that reads files. Runs off the main
+ * thread; the file is replaced atomically so readers never see a partial write.
+ */
+public final class PrometheusFileExporter {
+    private final Plugin plugin;
+    private final HoloMetrics metrics;
+    private final Supplier<HologramSnapshot> snapshot;
+    private final Path file;
+    private BukkitTask task;
+
+    /**
+     * @param plugin owning plugin
+     * @param metrics counters to export
+     * @param snapshot supplies the latest hologram snapshot
+     * @param file target file
+     */
+    public PrometheusFileExporter(Plugin plugin, HoloMetrics metrics, Supplier<HologramSnapshot> snapshot, Path file) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+        this.snapshot = snapshot;
+        this.file = file;
+    }
+
+    /**
+     * Start writing every {@code intervalTicks}.
+     * @param intervalTicks ticks between writes
+     */
+    public void start(long intervalTicks) {
+        long interval = Math.max(20L, intervalTicks);
+        if (task == null) task = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::write, interval, interval);
+    }
+
+    /**
+     * Stop writing.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    private void write() {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.writeString(tmp, format(), StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return current metrics in the Prometheus text format
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder(2048);
+        timer(sb, "holotext_spawn", "Renders that spawned a hologram from scratch", metrics.spawn);
+        timer(sb, "holotext_refresh", "Renders that updated line entities in place", metrics.refresh);
+        timer(sb, "holotext_save", "Storage writes", metrics.save);
+        timer(sb, "holotext_purge", "Completed purges, scan time only", metrics.purge);
+        counter(sb, "holotext_entities_spawned_total", "Line entities spawned", metrics.getEntitiesSpawned());
+        counter(sb, "holotext_entities_removed_total", "Line entities removed, excluding purges", metrics.getEntitiesRemoved());
+        counter(sb, "holotext_save_bytes_total", "Bytes written to storage", metrics.getBytesWritten());
+        counter(sb, "holotext_purged_entities_total", "Tagged entities removed by purges", metrics.getPurgedEntities());
+        HologramSnapshot snap = snapshot.get();
+        perWorld(sb, "holotext_holograms", "Holograms per world", snap.hologramsPerWorld());
+        perWorld(sb, "holotext_entities", "Recorded line entities per world", snap.entitiesPerWorld());
+        return sb.toString();
+    }
+
+    private static void timer(StringBuilder sb, String name, String help, HoloMetrics.Timer timer) {
+        counter(sb, name + "_total", help, timer.count());
+        sb.append("# HELP ").append(name).append("_seconds_total ").append(help).append(", summed duration\n");
+        sb.append("# TYPE ").append(name).append("_seconds_total counter\n");
+        sb.append(name).append("_seconds_total ").append(seconds(timer.totalNanos())).append('\n');
+        sb.append("# HELP ").append(name).append("_seconds_max ").append(help).append(", longest duration\n");
+        sb.append("# TYPE ").append(name).append("_seconds_max gauge\n");
+        sb.append(name).append("_seconds_max ").append(seconds(timer.maxNanos())).append('\n');
+    }
+
+    private static void counter(StringBuilder sb, String name, String help, long value) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" counter\n");
+        sb.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void perWorld(StringBuilder sb, String name, String help, Map<String, Integer> values) {
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(" gauge\n");
+        for (Map.Entry<String, Integer> e : values.entrySet()) {
+            sb.append(name).append("{world=\"").append(escape(e.getKey())).append("\"} ").append(e.getValue()).append('\n');
+        }
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1_000_000_000.0);
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
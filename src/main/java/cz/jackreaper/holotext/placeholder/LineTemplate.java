@@ -0,0 +1,94 @@
+package cz.jackreaper.holotext.placeholder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * A raw hologram line parsed once into literal segments and {@code {placeholder}} references.
+ *
+ * <p>Placeholder names consist of letters, digits, {@code _}, {@code -} and {@code .} and are
+ * matched case-insensitively. Anything else in braces is kept as literal text.
+ */
+public final class LineTemplate {
+    private final String raw;
+    // literals.length == keys.length + 1; literal i precedes placeholder i
+    private final String[] literals;
+    private final String[] keys;
+    private final String[] tokens;
+
+    private LineTemplate(String raw, String[] literals, String[] keys, String[] tokens) {
+        this.raw = raw;
+        this.literals = literals;
+        this.keys = keys;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parse a raw line.
+     * @param raw line text
+     * @return compiled template
+     */
+    public static LineTemplate compile(String raw) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < raw.length()) {
+            char c = raw.charAt(i);
+            int end = c == '{' ? raw.indexOf('}', i + 1) : -1;
+            if (end > i + 1 && isName(raw, i + 1, end)) {
+                literals.add(literal.toString());
+                literal.setLength(0);
+                keys.add(raw.substring(i + 1, end).toLowerCase(Locale.ROOT));
+                tokens.add(raw.substring(i, end + 1));
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        literals.add(literal.toString());
+        return new LineTemplate(raw, literals.toArray(new String[0]), keys.toArray(new String[0]), tokens.toArray(new String[0]));
+    }
+
+    private static boolean isName(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the line contains no placeholders
+     */
+    public boolean isStatic() {
+        return keys.length == 0;
+    }
+
+    /**
+     * @return lower-case names of the referenced placeholders, in order of appearance
+     */
+    public List<String> placeholders() {
+        return List.of(keys);
+    }
+
+    /**
+     * Substitute placeholder values.
+     * @param values resolves a lower-case placeholder name, or returns {@code null} to keep the token as written
+     * @return rendered line
+     */
+    public String render(Function<String, String> values) {
+        if (keys.length == 0) return raw;
+        StringBuilder sb = new StringBuilder(raw.length() + 16);
+        for (int i = 0; i < keys.length; i++) {
+            sb.append(literals[i]);
+            String value = values.apply(keys[i]);
+            sb.append(value != null ? value : tokens[i]);
+        }
+        return sb.append(literals[keys.length]).toString();
+    }
+}
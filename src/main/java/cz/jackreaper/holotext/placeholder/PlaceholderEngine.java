@@ -0,0 +1,240 @@
+package cz.jackreaper.holotext.placeholder;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Resolves {@code {placeholder}} tokens in hologram lines and re-renders holograms when values change.
+ *
+ * <p>Lines are compiled into {@link LineTemplate}s once per hologram. When the raw lines change
+ * (e.g. an animation frame or a data source update), only the lines that differ are looked up
+ * again, in a bounded cache of templates keyed by raw text, so recurring frames are parsed once;
+ * placeholder dependents are relinked only if the set of referenced names changed.
+ *
+ * <p>A single task runs every tick and evaluates each placeholder on its own refresh interval,
+ * but only while at least one hologram uses it. Holograms referencing a placeholder whose value
+ * changed are handed to the refresh callback, once per tick at most. Main thread only.
+ */
+public class PlaceholderEngine {
+    private static final int TEMPLATE_CACHE_SIZE = 4096;
+
+    private static final class Registration {
+        final String name;
+        final long intervalTicks;
+        final Supplier<String> provider;
+        String value;
+        long nextDue;
+
+        Registration(String name, long intervalTicks, Supplier<String> provider) {
+            this.name = name;
+            this.intervalTicks = intervalTicks;
+            this.provider = provider;
+        }
+    }
+
+    private record Compiled(List<String> source, List<LineTemplate> templates, Set<String> placeholders) {
+        boolean isStatic() {
+            return placeholders.isEmpty();
+        }
+    }
+
+    private final Plugin plugin;
+    private final Consumer<String> refresher;
+    private final Map<String, Registration> registrations = new HashMap<>();
+    private final Map<String, Compiled> compiled = new HashMap<>();
+    // raw line -> template, least recently used first
+    private final Map<String, LineTemplate> templates = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LineTemplate> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
+    // placeholder name -> keys of holograms referencing it
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Set<String> dirty = new LinkedHashSet<>();
+    private BukkitTask task;
+    private long tick;
+
+    /**
+     * @param plugin owning plugin
+     * @param refresher re-renders a hologram by lower-case key after its placeholder values changed
+     */
+    public PlaceholderEngine(Plugin plugin, Consumer<String> refresher) {
+        this.plugin = plugin;
+        this.refresher = refresher;
+        register("online", 20L, () -> String.valueOf(plugin.getServer().getOnlinePlayers().size()));
+        register("max_players", 200L, () -> String.valueOf(plugin.getServer().getMaxPlayers()));
+        register("tps", 100L, () -> String.format(Locale.ROOT, "%.1f", Math.min(20.0, plugin.getServer().getTPS()[0])));
+    }
+
+    /**
+     * Start the refresh task.
+     */
+    public void start() {
+        if (task == null) task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stop the refresh task.
+     */
+    public void stop() {
+        if (task != null) task.cancel();
+        task = null;
+    }
+
+    /**
+     * Register or replace a placeholder. Holograms already using it are re-rendered.
+     * @param name placeholder name as written between braces (case-insensitive)
+     * @param refreshTicks ticks between evaluations
+     * @param provider produces the current value; called on the main thread and should be cheap
+     */
+    public void register(String name, long refreshTicks, Supplier<String> provider) {
+        String key = name.toLowerCase(Locale.ROOT);
+        registrations.put(key, new Registration(key, Math.max(1L, refreshTicks), provider));
+        markDependents(key);
+    }
+
+    /**
+     * Remove a placeholder; holograms using it show the raw token again.
+     * @param name placeholder name
+     * @return true if it was registered
+     */
+    public boolean unregister(String name) {
+        String key = name.toLowerCase(Locale.ROOT);
+        if (registrations.remove(key) == null) return false;
+        markDependents(key);
+        return true;
+    }
+
+    /**
+     * @param name placeholder name
+     * @return true if a provider is registered under the name
+     */
+    public boolean isRegistered(String name) {
+        return registrations.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Lines to display for a hologram, with placeholders substituted.
+     * @param key lower-case hologram key
+     * @param lines raw lines
+     * @return {@code lines} itself if it has no placeholders, otherwise a new list
+     */
+    public List<String> resolve(String key, List<String> lines) {
+        Compiled c = compiled.get(key);
+        if (c == null || !c.source().equals(lines)) c = compile(key, c, lines);
+        if (c.isStatic()) return lines;
+        List<String> out = new ArrayList<>(c.templates().size());
+        for (LineTemplate t : c.templates()) out.add(t.render(this::valueOf));
+        return out;
+    }
+
+    /**
+     * Drop the compiled lines of a deleted hologram.
+     * @param key lower-case hologram key
+     */
+    public void forget(String key) {
+        Compiled c = compiled.remove(key);
+        if (c == null) return;
+        for (String name : c.placeholders()) unlink(key, name);
+        dirty.remove(key);
+    }
+
+    private Compiled compile(String key, Compiled old, List<String> lines) {
+        List<LineTemplate> lineTemplates = new ArrayList<>(lines.size());
+        Set<String> names = Set.of();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            // Lines that did not change keep their template; others come from the shared cache
+            LineTemplate t = old != null && i < old.source().size() && old.source().get(i).equals(line)
+                    ? old.templates().get(i) : template(line);
+            lineTemplates.add(t);
+            if (t.isStatic()) continue;
+            if (names.isEmpty()) names = new HashSet<>();
+            names.addAll(t.placeholders());
+        }
+        Set<String> previous = old != null ? old.placeholders() : Set.of();
+        if (!names.equals(previous)) {
+            for (String name : previous) {
+                if (!names.contains(name)) unlink(key, name);
+            }
+            for (String name : names) {
+                if (!previous.contains(name)) dependents.computeIfAbsent(name, n -> new HashSet<>()).add(key);
+            }
+        }
+        Compiled c = new Compiled(List.copyOf(lines), lineTemplates, names);
+        compiled.put(key, c);
+        return c;
+    }
+
+    private LineTemplate template(String line) {
+        LineTemplate t = templates.get(line);
+        if (t == null) {
+            t = LineTemplate.compile(line);
+            templates.put(line, t);
+        }
+        return t;
+    }
+
+    private void unlink(String key, String name) {
+        Set<String> keys = dependents.get(name);
+        if (keys == null) return;
+        keys.remove(key);
+        if (keys.isEmpty()) dependents.remove(name);
+    }
+
+    private String valueOf(String name) {
+        Registration r = registrations.get(name);
+        if (r == null) return null;
+        if (r.value == null) evaluate(r);
+        return r.value;
+    }
+
+    private void tick() {
+        tick++;
+        for (Registration r : registrations.values()) {
+            if (tick < r.nextDue) continue;
+            r.nextDue = tick + r.intervalTicks;
+            if (!dependents.containsKey(r.name)) {
+                // Nobody displays it; forget the value so the next user evaluates it fresh
+                r.value = null;
+                continue;
+            }
+            String before = r.value;
+            evaluate(r);
+            if (!Objects.equals(before, r.value)) markDependents(r.name);
+        }
+        if (dirty.isEmpty()) return;
+        List<String> keys = new ArrayList<>(dirty);
+        dirty.clear();
+        for (String key : keys) refresher.accept(key);
+    }
+
+    private void evaluate(Registration r) {
+        try {
+            String value = r.provider.get();
+            r.value = value != null ? value : "";
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Placeholder '{" + r.name + "}' failed: " + e);
+            if (r.value == null) r.value = "";
+        }
+    }
+
+    private void markDependents(String name) {
+        Set<String> keys = dependents.get(name);
+        if (keys != null) dirty.addAll(keys);
+    }
+}
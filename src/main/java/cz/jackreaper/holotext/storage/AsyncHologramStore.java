@@ -0,0 +1,127 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base for stores that buffer changes on the main thread and persist them on a
+ * single dedicated worker thread, once per flush interval.
+ */
+abstract class AsyncHologramStore implements HologramStore {
+    protected final Plugin plugin;
+    protected final ExecutorService worker;
+    // Small bounded pool the worker hands large decodes to; threads start on first use
+    protected final ExecutorService decoders;
+    // Written before start(); read on the worker thread
+    protected volatile HoloMetrics metrics = new HoloMetrics();
+    private BukkitTask task;
+
+    /**
+     * @param plugin owning plugin (scheduler and logger)
+     * @param threadName name of the worker thread
+     */
+    AsyncHologramStore(Plugin plugin, String threadName) {
+        this.plugin = plugin;
+        this.worker = Executors.newSingleThreadExecutor(daemonThreads(threadName, false));
+        int decodeThreads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        this.decoders = Executors.newFixedThreadPool(decodeThreads, daemonThreads(threadName + "-Decode", true));
+    }
+
+    private static ThreadFactory daemonThreads(String name, boolean numbered) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, numbered ? name + "-" + count.incrementAndGet() : name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    @Override
+    public void useMetrics(HoloMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void start(long intervalTicks) {
+        long interval = Math.max(1L, intervalTicks);
+        this.task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::flush, interval, interval);
+    }
+
+    /**
+     * Hand pending changes to the worker thread. Called on the main thread; no-op when nothing changed.
+     */
+    protected abstract void flush();
+
+    /**
+     * Release files or connections after the worker has drained.
+     */
+    protected void closeResources() {}
+
+    @Override
+    public void flushNow() {
+        flush();
+        onWorker(() -> null);
+    }
+
+    @Override
+    public void close() {
+        if (task != null) task.cancel();
+        flush();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for pending hologram writes.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        decoders.shutdown();
+        closeResources();
+    }
+
+    /**
+     * Run a task on the worker thread (after everything queued before it) and wait for its result.
+     * @param task work to run
+     * @return task result, or {@code null} if it failed or was interrupted
+     */
+    protected <T> T onWorker(Callable<T> task) {
+        try {
+            return worker.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            plugin.getLogger().severe("Hologram storage task failed: " + e.getCause());
+        }
+        return null;
+    }
+
+    /**
+     * Run a task on the worker thread (after everything queued before it) without waiting.
+     * @param task work to run
+     * @return future completed on the main thread with the task result, or {@code null} if it failed
+     */
+    protected <T> CompletableFuture<T> onWorkerAsync(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            T value = null;
+            try {
+                value = task.call();
+            } catch (Exception e) {
+                plugin.getLogger().severe("Hologram storage task failed: " + e);
+            }
+            T done = value;
+            plugin.getServer().getScheduler().runTask(plugin, () -> result.complete(done));
+        });
+        return result;
+    }
+}
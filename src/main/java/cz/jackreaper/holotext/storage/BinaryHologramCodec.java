@@ -0,0 +1,173 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compact binary snapshot of hologram definitions ({@code holograms.bin}).
+ *
+ * <p>Layout (big-endian): magic {@code HTB1}, format version, a world string table, a
+ * string table of distinct line texts, then one record per hologram with its name, world
+ * index, primitive coordinates and rotation, a flags byte, line indices and entity UUIDs.
+ * A CRC32C of everything before it closes the file. Strings are a length followed by UTF-8.
+ *
+ * <p>Reading maps the file read-only and decodes it in one sequential pass; lines shared
+ * by several holograms are decoded once and shared. There is no per-field lookup or
+ * number parsing, which is what makes YAML slow for large data sets.
+ */
+public final class BinaryHologramCodec {
+    private static final int MAGIC = 0x48544231; // "HTB1"
+    private static final int VERSION = 1;
+    private static final int FLAG_STATIC = 1;
+
+    private BinaryHologramCodec() {}
+
+    /**
+     * Serialize a full snapshot.
+     * @param defs definitions to write, in order
+     * @return file content
+     */
+    public static byte[] encode(Collection<HologramDefinition> defs) {
+        Map<String, Integer> worlds = new LinkedHashMap<>();
+        Map<String, Integer> lines = new LinkedHashMap<>();
+        for (HologramDefinition def : defs) {
+            worlds.putIfAbsent(def.world(), worlds.size());
+            for (String line : def.lines()) lines.putIfAbsent(line, lines.size());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + defs.size() * 96);
+        CRC32C crc = new CRC32C();
+        try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(bytes, crc))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeTable(out, worlds.keySet());
+            writeTable(out, lines.keySet());
+            out.writeInt(defs.size());
+            for (HologramDefinition def : defs) {
+                writeString(out, def.name());
+                out.writeInt(worlds.get(def.world()));
+                out.writeDouble(def.x());
+                out.writeDouble(def.y());
+                out.writeDouble(def.z());
+                out.writeFloat(def.yaw());
+                out.writeFloat(def.pitch());
+                out.writeByte(def.staticRotation() ? FLAG_STATIC : 0);
+                out.writeInt(def.lines().size());
+                for (String line : def.lines()) out.writeInt(lines.get(line));
+                out.writeInt(def.entityIds().size());
+                for (UUID id : def.entityIds()) {
+                    out.writeLong(id.getMostSignificantBits());
+                    out.writeLong(id.getLeastSignificantBits());
+                }
+            }
+            out.flush();
+            // Appended behind the checksummed stream
+            new DataOutputStream(bytes).writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            // ByteArrayOutputStream does not throw
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Map a snapshot file and decode it.
+     * @param file snapshot file
+     * @return decoded definitions by key, in file order
+     * @throws IOException if the file cannot be read, or is truncated, corrupt or of an unknown version
+     */
+    public static Map<String, HologramDefinition> readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return decode(buffer);
+        }
+    }
+
+    /**
+     * Decode a snapshot.
+     * @param buffer snapshot content between position and limit
+     * @return decoded definitions by key, in file order
+     * @throws IOException if the content is truncated, corrupt or of an unknown version
+     */
+    public static Map<String, HologramDefinition> decode(ByteBuffer buffer) throws IOException {
+        ByteBuffer in = buffer.slice();
+        if (in.remaining() < 12 || in.getInt(0) != MAGIC) throw new IOException("not a hologram snapshot");
+        if (in.getInt(4) != VERSION) throw new IOException("unsupported snapshot version " + in.getInt(4));
+        int bodyEnd = in.limit() - 4;
+        CRC32C crc = new CRC32C();
+        crc.update(in.duplicate().limit(bodyEnd));
+        if ((int) crc.getValue() != in.getInt(bodyEnd)) throw new IOException("checksum mismatch");
+        in.position(8).limit(bodyEnd);
+        try {
+            byte[] scratch = new byte[256];
+            String[] worlds = readTable(in, scratch);
+            String[] lines = readTable(in, scratch);
+            int count = in.getInt();
+            Map<String, HologramDefinition> result = new LinkedHashMap<>(capacity(count));
+            for (int i = 0; i < count; i++) {
+                String name = readString(in, scratch);
+                String world = worlds[in.getInt()];
+                double x = in.getDouble();
+                double y = in.getDouble();
+                double z = in.getDouble();
+                float yaw = in.getFloat();
+                float pitch = in.getFloat();
+                boolean staticRotation = (in.get() & FLAG_STATIC) != 0;
+                String[] holoLines = new String[in.getInt()];
+                for (int l = 0; l < holoLines.length; l++) holoLines[l] = lines[in.getInt()];
+                UUID[] ids = new UUID[in.getInt()];
+                for (int e = 0; e < ids.length; e++) ids[e] = new UUID(in.getLong(), in.getLong());
+                HologramDefinition def = new HologramDefinition(name, world, x, y, z, yaw, pitch,
+                        List.of(holoLines), staticRotation, List.of(ids));
+                result.put(def.key(), def);
+            }
+            return result;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("truncated or corrupt snapshot", e);
+        }
+    }
+
+    private static void writeTable(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) writeString(out, value);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String[] readTable(ByteBuffer in, byte[] scratch) {
+        String[] values = new String[in.getInt()];
+        for (int i = 0; i < values.length; i++) values[i] = readString(in, scratch);
+        return values;
+    }
+
+    private static String readString(ByteBuffer in, byte[] scratch) {
+        int length = in.getInt();
+        byte[] buf = length <= scratch.length ? scratch : new byte[length];
+        in.get(buf, 0, length);
+        return new String(buf, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int capacity(int entries) {
+        return Math.max(16, (int) (entries / 0.75f) + 1);
+    }
+}
@@ -0,0 +1,172 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HologramStore} backed by the binary snapshot {@code holograms.bin}
+ * (see {@link BinaryHologramCodec}).
+ *
+ * <p>Works like the YAML store without a journal: mutations update an in-memory snapshot
+ * and mark it dirty, and a dirty snapshot is encoded and atomically written on the worker
+ * thread once per flush interval. A failed write is retried on the next flush, since the
+ * previous file may still be mapped for a moment after loading on some platforms.
+ *
+ * <p>The first time the store starts, {@code holograms.yml} is imported and written as the
+ * first snapshot, and a {@code holograms.bin.imported} marker is created. {@code holograms.yml}
+ * is not written by this store, so it is never imported again, even if {@code holograms.bin}
+ * goes missing; use {@code /holo export} and {@code /holo import} to edit by hand. A snapshot
+ * that fails its checksum is moved aside to {@code holograms.bin.broken} and replaced with an
+ * empty one, so later starts do not fall back to the stale YAML file either.
+ */
+public class BinaryHologramStore extends AsyncHologramStore {
+    private final File dataFile;
+    private final File legacyYaml;
+    private final Path importedMarker;
+    private final Map<String, HologramDefinition> snapshot = new LinkedHashMap<>();
+    private boolean dirty;
+    // Set by the worker when a write failed, so the next flush writes again
+    private volatile boolean retry;
+    // Changes recorded while an async load is in flight (null value = delete); null when not loading
+    private Map<String, HologramDefinition> changedDuringLoad;
+    // Changes not yet handed to the worker (null value = delete); kept across a reload
+    private final Map<String, HologramDefinition> unflushed = new HashMap<>();
+
+    /**
+     * @param plugin owning plugin (scheduler and logger)
+     * @param dataFile snapshot file
+     * @param legacyYaml YAML file to import from when the snapshot does not exist yet
+     */
+    public BinaryHologramStore(Plugin plugin, File dataFile, File legacyYaml) {
+        super(plugin, "HoloText-Snapshot");
+        this.dataFile = dataFile;
+        this.legacyYaml = legacyYaml;
+        this.importedMarker = dataFile.toPath().resolveSibling(dataFile.getName() + ".imported");
+    }
+
+    @Override
+    public CompletableFuture<Collection<HologramDefinition>> loadAsync(Collection<String> worlds) {
+        changedDuringLoad = new HashMap<>(unflushed);
+        return onWorkerAsync(this::decode)
+                .thenApply(loaded -> install(loaded != null ? loaded : new LinkedHashMap<>(), worlds));
+    }
+
+    // Worker thread: queued behind pending writes
+    private Map<String, HologramDefinition> decode() throws IOException {
+        Path file = dataFile.toPath();
+        if (!Files.exists(file)) {
+            if (!Files.exists(importedMarker)) return importLegacyYaml();
+            plugin.getLogger().warning(dataFile.getName() + " is missing; starting without holograms. "
+                    + legacyYaml.getName() + " is not imported again; use /holo import to restore an export.");
+            return new LinkedHashMap<>();
+        }
+        // Snapshots written before the marker existed count as imported too
+        markImported();
+        long start = System.nanoTime();
+        try {
+            Map<String, HologramDefinition> loaded = BinaryHologramCodec.readFile(file);
+            plugin.getLogger().info("Read " + loaded.size() + " hologram(s) from " + dataFile.getName() + " in "
+                    + (System.nanoTime() - start) / 1_000_000L + " ms.");
+            return loaded;
+        } catch (IOException e) {
+            Path broken = file.resolveSibling(dataFile.getName() + ".broken");
+            Files.move(file, broken, StandardCopyOption.REPLACE_EXISTING);
+            write(List.of());
+            plugin.getLogger().severe("Could not read " + dataFile.getName() + " (" + e.getMessage() + "); moved it to "
+                    + broken.getFileName() + ". Starting without holograms; restore a backup or /holo import a YAML export.");
+            return new LinkedHashMap<>();
+        }
+    }
+
+    private void markImported() throws IOException {
+        if (!Files.exists(importedMarker)) Files.createFile(importedMarker);
+    }
+
+    // Worker thread
+    private Map<String, HologramDefinition> importLegacyYaml() throws IOException {
+        Map<String, HologramDefinition> defs = YamlHologramCodec.readFile(legacyYaml.toPath(), plugin.getLogger(), decoders);
+        // Written even when empty, so holograms.yml is never consulted again
+        if (!write(List.copyOf(defs.values()))) return defs;
+        markImported();
+        if (!defs.isEmpty()) {
+            plugin.getLogger().info("Imported " + defs.size() + " hologram(s) from " + legacyYaml.getName()
+                    + " into " + dataFile.getName() + ".");
+        }
+        return defs;
+    }
+
+    // Main thread: replace the snapshot, keeping changes made while the file was being read
+    private Collection<HologramDefinition> install(Map<String, HologramDefinition> loaded, Collection<String> worlds) {
+        if (changedDuringLoad != null) {
+            for (Map.Entry<String, HologramDefinition> e : changedDuringLoad.entrySet()) {
+                if (e.getValue() == null) loaded.remove(e.getKey());
+                else loaded.put(e.getKey(), e.getValue());
+            }
+            dirty |= !changedDuringLoad.isEmpty();
+            changedDuringLoad = null;
+        }
+        snapshot.clear();
+        snapshot.putAll(loaded);
+        List<HologramDefinition> result = new ArrayList<>(loaded.size());
+        for (HologramDefinition def : loaded.values()) {
+            if (worlds.contains(def.world())) {
+                result.add(def);
+            } else {
+                plugin.getLogger().warning("Skipping hologram '" + def.name() + "' due to missing world '" + def.world() + "'.");
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void upsert(HologramDefinition def) {
+        if (changedDuringLoad != null) changedDuringLoad.put(def.key(), def);
+        unflushed.put(def.key(), def);
+        snapshot.put(def.key(), def);
+        dirty = true;
+    }
+
+    @Override
+    public void delete(String key) {
+        if (changedDuringLoad != null) changedDuringLoad.put(key, null);
+        if (snapshot.remove(key) == null) return;
+        unflushed.put(key, null);
+        dirty = true;
+    }
+
+    @Override
+    protected void flush() {
+        if (!dirty && !retry) return;
+        List<HologramDefinition> copy = List.copyOf(snapshot.values());
+        dirty = false;
+        retry = false;
+        unflushed.clear();
+        worker.execute(() -> retry = !write(copy));
+    }
+
+    private boolean write(List<HologramDefinition> defs) {
+        long start = System.nanoTime();
+        try {
+            byte[] content = BinaryHologramCodec.encode(defs);
+            YamlHologramStore.writeAtomically(dataFile.toPath(), content);
+            metrics.saved(System.nanoTime() - start, content.length);
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to save " + dataFile.getName() + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package cz.jackreaper.holotext.storage;
+
+import org.bukkit.plugin.Plugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches {@code holograms.yml} for edits made outside the plugin.
+ *
+ * <p>A daemon thread collects file system events for the data folder. Once the file has
+ * been quiet for the debounce period, its checksum is compared with the files the
+ * {@link YamlHologramStore} wrote itself; only foreign content triggers the callback, which
+ * runs on the main thread. Parsing and diffing are left to the callback, which is expected
+ * to reload through the store (off the main thread) and apply only the differences.
+ */
+public class HologramFileWatcher {
+    private final Plugin plugin;
+    private final YamlHologramStore store;
+    private final Path file;
+    private final long debounceMillis;
+    private final Runnable onExternalChange;
+    private WatchService watchService;
+    private Thread thread;
+    // Watcher thread only
+    private long lastSeen = -1L;
+
+    /**
+     * @param plugin owning plugin
+     * @param store store whose own writes are ignored
+     * @param file watched data file
+     * @param debounceMillis quiet period after the last event before the file is checked
+     * @param onExternalChange called on the main thread after a foreign edit
+     */
+    public HologramFileWatcher(Plugin plugin, YamlHologramStore store, Path file, long debounceMillis, Runnable onExternalChange) {
+        this.plugin = plugin;
+        this.store = store;
+        this.file = file.toAbsolutePath();
+        this.debounceMillis = Math.max(50L, debounceMillis);
+        this.onExternalChange = onExternalChange;
+    }
+
+    /**
+     * Start watching. Logs a warning and does nothing if the file system cannot be watched.
+     */
+    public void start() {
+        try {
+            lastSeen = Files.exists(file) ? YamlHologramStore.checksum(Files.readAllBytes(file)) : -1L;
+            watchService = file.getFileSystem().newWatchService();
+            // Atomic saves replace the file, which shows up as a create rather than a modify
+            file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not watch " + file.getFileName() + ": " + e.getMessage());
+            return;
+        }
+        thread = new Thread(this::watch, "HoloText-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop watching.
+     */
+    public void stop() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        if (thread != null) thread.interrupt();
+    }
+
+    private void watch() {
+        boolean pending = false;
+        try {
+            while (true) {
+                WatchKey key = pending ? watchService.poll(debounceMillis, TimeUnit.MILLISECONDS) : watchService.take();
+                if (key == null) {
+                    // Quiet for the whole debounce period
+                    pending = false;
+                    check();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+                        pending = true;
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    private void check() {
+        long checksum;
+        try {
+            checksum = YamlHologramStore.checksum(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not read " + file.getFileName() + ": " + e.getMessage());
+            return;
+        }
+        if (checksum == lastSeen) return;
+        lastSeen = checksum;
+        if (store.isOwnWrite(checksum) || !plugin.isEnabled()) return;
+        plugin.getServer().getScheduler().runTask(plugin, onExternalChange);
+    }
+}
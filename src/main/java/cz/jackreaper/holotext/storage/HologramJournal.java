@@ -0,0 +1,320 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only change log stored next to {@code holograms.yml}.
+ *
+ * <p>Each mutation is encoded as a compact, checksummed record ({@code [length][crc32][payload]}).
+ * Strings are an int length followed by UTF-8, so lines and names of any length can be journaled.
+ * Records carry absolute state (full definition, new lines, new location, or deletion), so
+ * replaying a record that is already contained in the snapshot is harmless. A torn or corrupt
+ * tail left by a crash is detected by its checksum and truncated on replay. An intact record
+ * with an unknown op stops the replay instead: the journal is copied aside and left as is.
+ *
+ * <p>Encoding happens on the caller's thread; {@link #append}, {@link #truncate} and
+ * {@link #replay} are file operations meant for the persistence worker or startup.
+ */
+public class HologramJournal {
+    private static final byte OP_UPSERT = 1;
+    private static final byte OP_LINES = 2;
+    private static final byte OP_MOVE = 3;
+    private static final byte OP_DELETE = 4;
+
+    private final Path file;
+    private FileChannel channel;
+
+    /**
+     * @param file journal file (created on first append)
+     */
+    public HologramJournal(File file) {
+        this.file = file.toPath();
+    }
+
+    /**
+     * @return current journal size in bytes, or 0 if it does not exist
+     */
+    public long size() {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0L;
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Encode the smallest record that turns {@code previous} into {@code current}.
+     * @param previous last persisted state, or {@code null} for a new hologram
+     * @param current new state
+     * @return encoded record, or {@code null} if nothing changed
+     */
+    public static byte[] encodeChange(HologramDefinition previous, HologramDefinition current) {
+        if (current.equals(previous)) return null;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            boolean samePlace = previous != null && previous.name().equals(current.name())
+                    && previous.world().equals(current.world())
+                    && previous.x() == current.x() && previous.y() == current.y() && previous.z() == current.z()
+                    && previous.yaw() == current.yaw() && previous.pitch() == current.pitch();
+            boolean sameContent = previous != null && previous.lines().equals(current.lines())
+                    && previous.staticRotation() == current.staticRotation();
+            if (samePlace) {
+                out.writeByte(OP_LINES);
+                writeString(out, current.key());
+                out.writeBoolean(current.staticRotation());
+                writeLines(out, current.lines());
+            } else if (sameContent) {
+                out.writeByte(OP_MOVE);
+                writeString(out, current.key());
+                writePlace(out, current);
+            } else {
+                out.writeByte(OP_UPSERT);
+                writeString(out, current.key());
+                writeString(out, current.name());
+                writePlace(out, current);
+                out.writeBoolean(current.staticRotation());
+                writeLines(out, current.lines());
+            }
+            writeIds(out, current.entityIds());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param key lower-case hologram key
+     * @return encoded deletion record
+     */
+    public static byte[] encodeDelete(String key) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(16);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(OP_DELETE);
+            writeString(out, key);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append framed records and force them to disk.
+     * @param records encoded records in mutation order
+     * @throws IOException if the journal cannot be written
+     */
+    public void append(List<byte[]> records) throws IOException {
+        if (records.isEmpty()) return;
+        int total = 0;
+        for (byte[] r : records) total += 8 + r.length;
+        ByteBuffer buf = ByteBuffer.allocate(total);
+        CRC32 crc = new CRC32();
+        for (byte[] r : records) {
+            crc.reset();
+            crc.update(r);
+            buf.putInt(r.length).putInt((int) crc.getValue()).put(r);
+        }
+        buf.flip();
+        FileChannel ch = channel();
+        while (buf.hasRemaining()) ch.write(buf);
+        ch.force(false);
+    }
+
+    /**
+     * Drop all records once they have been folded into a snapshot.
+     * @throws IOException if the journal cannot be truncated
+     */
+    public void truncate() throws IOException {
+        channel().truncate(0L);
+        channel.force(true);
+    }
+
+    /**
+     * Apply every intact record to {@code defs} (keyed by lower-case name), truncating a torn tail.
+     * @param defs snapshot state to bring up to date, mutated in place
+     * @param logger logger for recovery warnings
+     * @return number of records applied
+     * @throws IOException if the journal cannot be read, or holds an intact record this version
+     *         cannot apply; the journal is then copied to {@code <name>.rejected} and not truncated
+     */
+    public int replay(Map<String, HologramDefinition> defs, Logger logger) throws IOException {
+        if (!Files.exists(file)) return 0;
+        byte[] all = Files.readAllBytes(file);
+        ByteBuffer buf = ByteBuffer.wrap(all);
+        CRC32 crc = new CRC32();
+        int applied = 0;
+        int good = 0;
+        while (buf.remaining() >= 8) {
+            int len = buf.getInt();
+            int sum = buf.getInt();
+            if (len < 0 || len > buf.remaining()) break;
+            crc.reset();
+            crc.update(all, buf.position(), len);
+            if ((int) crc.getValue() != sum) break;
+            byte[] payload = new byte[len];
+            buf.get(payload);
+            try {
+                apply(payload, defs);
+            } catch (EOFException e) {
+                break;
+            } catch (UnknownOpException e) {
+                // Written by another version: later records may be intact, so keep all of them
+                Path rejected = file.resolveSibling(file.getFileName() + ".rejected");
+                Files.copy(file, rejected, StandardCopyOption.REPLACE_EXISTING);
+                throw new IOException(e.getMessage() + " at byte " + (buf.position() - len - 8)
+                        + "; stopped replay and copied the journal to " + rejected.getFileName(), e);
+            }
+            applied++;
+            good = buf.position();
+        }
+        if (good < all.length) {
+            logger.warning("Discarding " + (all.length - good) + " byte(s) of incomplete hologram journal tail.");
+            try (FileChannel ch = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                ch.truncate(good);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Close the underlying file channel.
+     */
+    public void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private static void apply(byte[] payload, Map<String, HologramDefinition> defs) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte op = in.readByte();
+        if (op < OP_UPSERT || op > OP_DELETE) throw new UnknownOpException(op);
+        String key = readString(in);
+        HologramDefinition prev = defs.get(key);
+        switch (op) {
+            case OP_UPSERT -> {
+                String name = readString(in);
+                String world = readString(in);
+                double x = in.readDouble(), y = in.readDouble(), z = in.readDouble();
+                float yaw = in.readFloat(), pitch = in.readFloat();
+                boolean staticRotation = in.readBoolean();
+                List<String> lines = readLines(in);
+                defs.put(key, new HologramDefinition(name, world, x, y, z, yaw, pitch, lines, staticRotation, readIds(in)));
+            }
+            case OP_LINES -> {
+                boolean staticRotation = in.readBoolean();
+                List<String> lines = readLines(in);
+                List<UUID> ids = readIds(in);
+                if (prev != null) {
+                    defs.put(key, new HologramDefinition(prev.name(), prev.world(), prev.x(), prev.y(), prev.z(),
+                            prev.yaw(), prev.pitch(), lines, staticRotation, ids));
+                }
+            }
+            case OP_MOVE -> {
+                String world = readString(in);
+                double x = in.readDouble(), y = in.readDouble(), z = in.readDouble();
+                float yaw = in.readFloat(), pitch = in.readFloat();
+                List<UUID> ids = readIds(in);
+                if (prev != null) {
+                    defs.put(key, new HologramDefinition(prev.name(), world, x, y, z, yaw, pitch,
+                            prev.lines(), prev.staticRotation(), ids));
+                }
+            }
+            case OP_DELETE -> defs.remove(key);
+        }
+    }
+
+    private static void writePlace(DataOutputStream out, HologramDefinition def) throws IOException {
+        writeString(out, def.world());
+        out.writeDouble(def.x());
+        out.writeDouble(def.y());
+        out.writeDouble(def.z());
+        out.writeFloat(def.yaw());
+        out.writeFloat(def.pitch());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) throw new EOFException("Truncated journal string");
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static void writeLines(DataOutputStream out, List<String> lines) throws IOException {
+        out.writeInt(lines.size());
+        for (String line : lines) writeString(out, line);
+    }
+
+    private static List<String> readLines(DataInputStream in) throws IOException {
+        int n = count(in);
+        List<String> lines = new ArrayList<>(Math.min(n, 256));
+        for (int i = 0; i < n; i++) lines.add(readString(in));
+        return lines;
+    }
+
+    private static int count(DataInputStream in) throws IOException {
+        int n = in.readInt();
+        if (n < 0) throw new EOFException("Negative journal count");
+        return n;
+    }
+
+    private static void writeIds(DataOutputStream out, List<UUID> ids) throws IOException {
+        out.writeInt(ids.size());
+        for (UUID id : ids) {
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+        }
+    }
+
+    private static List<UUID> readIds(DataInputStream in) throws IOException {
+        int n = count(in);
+        List<UUID> ids = new ArrayList<>(Math.min(n, 256));
+        for (int i = 0; i < n; i++) ids.add(new UUID(in.readLong(), in.readLong()));
+        return ids;
+    }
+
+    // An intact record that this version cannot interpret, as opposed to a torn one
+    private static final class UnknownOpException extends IOException {
+        UnknownOpException(byte op) {
+            super("Unknown journal op " + op);
+        }
+    }
+}
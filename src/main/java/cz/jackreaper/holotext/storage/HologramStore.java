@@ -0,0 +1,76 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import cz.jackreaper.holotext.metrics.HoloMetrics;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage backend for hologram definitions.
+ *
+ * <p>{@link #loadAsync} reads and decodes off the main thread and returns fully decoded,
+ * immutable definitions. Write methods are called on the main thread and must return
+ * quickly: implementations buffer changes and persist them in the background, batching
+ * everything recorded since the previous flush.
+ */
+public interface HologramStore {
+    /**
+     * Read definitions from the backing storage on a background thread, discarding any
+     * cached state. Changes recorded while the load is in flight are applied on top of
+     * the loaded data.
+     * @param worlds names of the worlds to load holograms for
+     * @return future completed on the main thread with the definitions located in the given worlds
+     */
+    CompletableFuture<Collection<HologramDefinition>> loadAsync(Collection<String> worlds);
+
+    /**
+     * Record a created or changed hologram.
+     * @param def current definition
+     */
+    void upsert(HologramDefinition def);
+
+    /**
+     * Record a deleted hologram.
+     * @param key lower-case hologram key
+     */
+    void delete(String key);
+
+    /**
+     * Record several created or changed holograms as one batch.
+     * @param defs current definitions
+     */
+    default void upsertAll(Collection<HologramDefinition> defs) {
+        for (HologramDefinition def : defs) upsert(def);
+    }
+
+    /**
+     * Record several deleted holograms as one batch.
+     * @param keys lower-case hologram keys
+     */
+    default void deleteAll(Collection<String> keys) {
+        for (String key : keys) delete(key);
+    }
+
+    /**
+     * Report write durations and sizes to the given counters.
+     * @param metrics runtime counters
+     */
+    default void useMetrics(HoloMetrics metrics) {}
+
+    /**
+     * Start periodic background flushing.
+     * @param intervalTicks ticks between flushes
+     */
+    void start(long intervalTicks);
+
+    /**
+     * Flush pending changes and wait until they are durable.
+     */
+    void flushNow();
+
+    /**
+     * Stop background work and persist remaining changes. Called once on disable.
+     */
+    void close();
+}
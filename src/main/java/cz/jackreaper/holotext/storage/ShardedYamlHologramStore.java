@@ -0,0 +1,258 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import org.bukkit.plugin.Plugin;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HologramStore} that splits holograms into one YAML file per world and region,
+ * {@code holograms/<world>/r.<x>.<z>.yml}, where a region is 32×32 chunks as in the
+ * world's own region files. Each shard has the same layout as {@code holograms.yml}.
+ *
+ * <p>Mutations update the in-memory shard and mark only that shard dirty (main thread).
+ * Once per flush interval, copies of the dirty shards are written on the worker thread,
+ * each with a temp file and an atomic rename; a shard that became empty is deleted. A
+ * change to one hologram therefore rewrites one small file instead of the whole data set.
+ *
+ * <p>Loading reads every shard of the requested worlds, decoded in parallel on the store's
+ * decode pool. Shards are deliberately not loaded per chunk or region: the manager keeps
+ * all holograms of a loaded world in memory, so names stay unique and commands and the
+ * API can list and find any of them. Sharding keeps flushes small; it does not make a
+ * world's holograms lazy. Shards of other worlds are never read or rewritten. A shard that
+ * cannot be parsed is skipped and then left untouched on disk until the next successful
+ * load, so a later save cannot overwrite the holograms it still contains.
+ *
+ * <p>When the shard directory does not exist yet and {@code holograms.yml} has entries, they
+ * are split into shards once so switching {@code storage.type} keeps existing holograms.
+ */
+public class ShardedYamlHologramStore extends AsyncHologramStore {
+    private static final int REGION_SHIFT = 5;
+    private static final String SHARD_GLOB = "r.*.*.yml";
+
+    private record Shard(String world, int regionX, int regionZ) {
+        static Shard of(HologramDefinition def) {
+            return new Shard(def.world(), def.chunkX() >> REGION_SHIFT, def.chunkZ() >> REGION_SHIFT);
+        }
+
+        Path path(Path root) {
+            return root.resolve(world).resolve("r." + regionX + "." + regionZ + ".yml");
+        }
+    }
+
+    private final Path root;
+    private final File legacyYaml;
+    // Loaded shards (main thread); a shard with no holograms is removed
+    private final Map<Shard, Map<String, HologramDefinition>> shards = new HashMap<>();
+    private final Map<String, Shard> shardOfKey = new HashMap<>();
+    private final Set<Shard> dirty = new HashSet<>();
+    // Changes recorded while an async load is in flight (null value = delete); null when not loading
+    private Map<String, HologramDefinition> changedDuringLoad;
+    // Changes not yet handed to the worker (null value = delete); kept across a reload
+    private final Map<String, HologramDefinition> unflushed = new HashMap<>();
+    // Shard files that failed to parse (worker thread only)
+    private final Set<Path> unreadable = new HashSet<>();
+
+    /**
+     * @param plugin owning plugin (scheduler and logger)
+     * @param root directory holding one sub-directory per world
+     * @param legacyYaml YAML file to import from when {@code root} does not exist yet
+     */
+    public ShardedYamlHologramStore(Plugin plugin, File root, File legacyYaml) {
+        super(plugin, "HoloText-Shards");
+        this.root = root.toPath();
+        this.legacyYaml = legacyYaml;
+        onWorker(() -> {
+            importLegacyYaml();
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Collection<HologramDefinition>> loadAsync(Collection<String> worlds) {
+        List<String> requested = List.copyOf(worlds);
+        changedDuringLoad = new HashMap<>(unflushed);
+        return onWorkerAsync(() -> readWorlds(requested))
+                .thenApply(loaded -> install(loaded != null ? loaded : new LinkedHashMap<>(), requested));
+    }
+
+    // Main thread: replace the shards of the loaded worlds, keeping changes made while they were being read
+    private Collection<HologramDefinition> install(Map<String, HologramDefinition> loaded, Collection<String> worlds) {
+        shards.keySet().removeIf(shard -> worlds.contains(shard.world()));
+        shardOfKey.values().removeIf(shard -> worlds.contains(shard.world()));
+        for (HologramDefinition def : loaded.values()) put(def);
+        // put() marks every shard it touches; only the replayed unflushed changes need writing
+        dirty.removeIf(shard -> worlds.contains(shard.world()));
+        if (changedDuringLoad != null) {
+            for (Map.Entry<String, HologramDefinition> e : changedDuringLoad.entrySet()) {
+                if (e.getValue() == null) remove(e.getKey());
+                else put(e.getValue());
+            }
+            changedDuringLoad = null;
+        }
+        List<HologramDefinition> result = new ArrayList<>();
+        for (Map<String, HologramDefinition> shard : shards.values()) {
+            for (HologramDefinition def : shard.values()) {
+                if (worlds.contains(def.world())) result.add(def);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void upsert(HologramDefinition def) {
+        if (changedDuringLoad != null) changedDuringLoad.put(def.key(), def);
+        unflushed.put(def.key(), def);
+        put(def);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (changedDuringLoad != null) changedDuringLoad.put(key, null);
+        if (remove(key)) unflushed.put(key, null);
+    }
+
+    private void put(HologramDefinition def) {
+        Shard shard = Shard.of(def);
+        Shard previous = shardOfKey.put(def.key(), shard);
+        if (previous != null && !previous.equals(shard)) removeFrom(previous, def.key());
+        shards.computeIfAbsent(shard, s -> new LinkedHashMap<>()).put(def.key(), def);
+        dirty.add(shard);
+    }
+
+    private boolean remove(String key) {
+        Shard shard = shardOfKey.remove(key);
+        if (shard == null) return false;
+        removeFrom(shard, key);
+        return true;
+    }
+
+    private void removeFrom(Shard shard, String key) {
+        Map<String, HologramDefinition> defs = shards.get(shard);
+        if (defs == null) return;
+        defs.remove(key);
+        if (defs.isEmpty()) shards.remove(shard);
+        dirty.add(shard);
+    }
+
+    @Override
+    protected void flush() {
+        if (dirty.isEmpty()) return;
+        Map<Path, List<HologramDefinition>> batch = new HashMap<>();
+        for (Shard shard : dirty) {
+            Map<String, HologramDefinition> defs = shards.get(shard);
+            batch.put(shard.path(root), defs != null ? List.copyOf(defs.values()) : List.of());
+        }
+        dirty.clear();
+        unflushed.clear();
+        worker.execute(() -> write(batch));
+    }
+
+    // Worker thread
+    private void write(Map<Path, List<HologramDefinition>> batch) {
+        long start = System.nanoTime();
+        long bytes = 0L;
+        for (Map.Entry<Path, List<HologramDefinition>> e : batch.entrySet()) {
+            Path file = e.getKey();
+            if (unreadable.contains(file)) {
+                plugin.getLogger().severe("Not saving " + root.relativize(file) + " because it could not be read; fix or remove it and reload.");
+                continue;
+            }
+            try {
+                if (e.getValue().isEmpty()) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                byte[] content = YamlHologramCodec.writeString(e.getValue()).getBytes(StandardCharsets.UTF_8);
+                Files.createDirectories(file.getParent());
+                YamlHologramStore.writeAtomically(file, content);
+                bytes += content.length;
+            } catch (IOException ex) {
+                plugin.getLogger().severe("Failed to save " + root.relativize(file) + ": " + ex.getMessage());
+            }
+        }
+        metrics.saved(System.nanoTime() - start, bytes);
+    }
+
+    // Worker thread: queued behind pending writes
+    private Map<String, HologramDefinition> readWorlds(Collection<String> worlds) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (String world : worlds) {
+            Path dir = root.resolve(world);
+            if (!Files.isDirectory(dir)) continue;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SHARD_GLOB)) {
+                for (Path file : stream) files.add(file);
+            }
+        }
+        files.sort(null);
+        unreadable.removeIf(file -> worlds.contains(root.relativize(file).getName(0).toString()));
+        return readShards(files);
+    }
+
+    // Worker thread: shards are parsed in parallel on the decode pool, then merged in the given order
+    private Map<String, HologramDefinition> readShards(List<Path> files) {
+        List<CompletableFuture<Map<String, HologramDefinition>>> reads = new ArrayList<>(files.size());
+        for (Path file : files) reads.add(CompletableFuture.supplyAsync(() -> readShard(file), decoders));
+        Map<String, HologramDefinition> result = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            Map<String, HologramDefinition> defs = reads.get(i).join();
+            if (defs == null) {
+                if (Files.exists(files.get(i))) unreadable.add(files.get(i));
+                continue;
+            }
+            for (HologramDefinition def : defs.values()) {
+                HologramDefinition existing = result.putIfAbsent(def.key(), def);
+                if (existing != null) {
+                    plugin.getLogger().warning("Skipping duplicate hologram '" + def.name() + "' in "
+                            + root.relativize(files.get(i)) + "; it is already stored in another shard.");
+                }
+            }
+        }
+        return result;
+    }
+
+    // Any thread; null if the file exists but cannot be used
+    private Map<String, HologramDefinition> readShard(Path file) {
+        try {
+            Map<String, HologramDefinition> defs = YamlHologramCodec.readFileStrict(file, plugin.getLogger());
+            if (defs != null) return defs;
+            plugin.getLogger().severe(root.relativize(file) + " has no 'holograms' section; skipping it.");
+        } catch (NoSuchFileException e) {
+            return new LinkedHashMap<>();
+        } catch (IOException | YAMLException e) {
+            plugin.getLogger().severe("Could not read " + root.relativize(file) + ": " + e.getMessage());
+        }
+        return null;
+    }
+
+    // Worker thread
+    private void importLegacyYaml() throws IOException {
+        if (Files.exists(root) || !legacyYaml.exists()) return;
+        Map<String, HologramDefinition> defs = YamlHologramCodec.readFile(legacyYaml.toPath(), plugin.getLogger());
+        Files.createDirectories(root);
+        if (defs.isEmpty()) return;
+        Map<Path, List<HologramDefinition>> batch = new HashMap<>();
+        for (HologramDefinition def : defs.values()) {
+            batch.computeIfAbsent(Shard.of(def).path(root), p -> new ArrayList<>()).add(def);
+        }
+        write(batch);
+        plugin.getLogger().info("Imported " + defs.size() + " hologram(s) from " + legacyYaml.getName()
+                + " into " + batch.size() + " shard(s) under " + root.getFileName() + "/.");
+    }
+}
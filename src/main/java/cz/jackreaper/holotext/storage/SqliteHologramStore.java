@@ -0,0 +1,300 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HologramStore} backed by an embedded SQLite database ({@code holograms.db}).
+ *
+ * <p>Rows are indexed by world and chunk coordinates so startup only reads the holograms
+ * of loaded worlds. Changes are buffered per key on the main thread and written in one
+ * transaction per flush interval. The connection is only ever used
+ * from the store's worker thread. The SQLite JDBC driver ships with the server.
+ *
+ * <p>When the database is created empty and {@code holograms.yml} has entries, they are
+ * imported once so switching {@code storage.type} keeps existing holograms.
+ */
+public class SqliteHologramStore extends AsyncHologramStore {
+    private static final String COLUMNS = "name, world, x, y, z, yaw, pitch, static, lines, entities";
+    private static final String UPSERT = "INSERT INTO holograms (name_key, chunk_x, chunk_z, " + COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT(name_key) DO UPDATE SET chunk_x = excluded.chunk_x, chunk_z = excluded.chunk_z, "
+            + "name = excluded.name, world = excluded.world, x = excluded.x, y = excluded.y, z = excluded.z, "
+            + "yaw = excluded.yaw, pitch = excluded.pitch, static = excluded.static, "
+            + "lines = excluded.lines, entities = excluded.entities";
+
+    private final File dbFile;
+    private final File legacyYaml;
+    // key -> latest definition, or null for a pending delete; insertion order is mutation order
+    private final Map<String, HologramDefinition> pending = new LinkedHashMap<>();
+    // Changes recorded since an async load was queued (null value = delete); null when not loading
+    private Map<String, HologramDefinition> changedDuringLoad;
+    private Connection connection;
+
+    /**
+     * @param plugin owning plugin (scheduler and logger)
+     * @param dbFile SQLite database file
+     * @param legacyYaml YAML file to import from when the database is new
+     */
+    public SqliteHologramStore(Plugin plugin, File dbFile, File legacyYaml) {
+        super(plugin, "HoloText-SQLite");
+        this.dbFile = dbFile;
+        this.legacyYaml = legacyYaml;
+        onWorker(() -> {
+            open();
+            return null;
+        });
+        if (connection == null) {
+            worker.shutdown();
+            decoders.shutdown();
+            throw new IllegalStateException("Could not open " + dbFile.getName());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Collection<HologramDefinition>> loadAsync(Collection<String> worlds) {
+        if (worlds.isEmpty()) return CompletableFuture.completedFuture(List.of());
+        String sql = selectWorlds(worlds);
+        List<Object> params = new ArrayList<>(worlds);
+        // Unflushed changes are not in the database yet, and later flushes queue behind the query
+        changedDuringLoad = new LinkedHashMap<>(pending);
+        return onWorkerAsync(() -> queryRows(sql, params)).thenApply(rows -> {
+            Map<String, HologramDefinition> changes = changedDuringLoad;
+            changedDuringLoad = null;
+            return overlay(rows != null ? rows : List.of(), changes, worlds);
+        });
+    }
+
+    private static Collection<HologramDefinition> overlay(List<HologramDefinition> rows, Map<String, HologramDefinition> changes,
+                                                          Collection<String> worlds) {
+        if (changes.isEmpty()) return rows;
+        Map<String, HologramDefinition> byKey = new LinkedHashMap<>();
+        for (HologramDefinition def : rows) byKey.put(def.key(), def);
+        for (Map.Entry<String, HologramDefinition> e : changes.entrySet()) {
+            HologramDefinition def = e.getValue();
+            if (def != null && worlds.contains(def.world())) byKey.put(e.getKey(), def);
+            else byKey.remove(e.getKey());
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static String selectWorlds(Collection<String> worlds) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM holograms WHERE world IN (");
+        for (int i = 0; i < worlds.size(); i++) sql.append(i == 0 ? "?" : ", ?");
+        return sql.append(')').toString();
+    }
+
+    @Override
+    public void upsert(HologramDefinition def) {
+        if (changedDuringLoad != null) changedDuringLoad.put(def.key(), def);
+        // Re-insert so the map keeps mutation order for the batch
+        pending.remove(def.key());
+        pending.put(def.key(), def);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (changedDuringLoad != null) changedDuringLoad.put(key, null);
+        pending.remove(key);
+        pending.put(key, null);
+    }
+
+    @Override
+    protected void flush() {
+        if (pending.isEmpty()) return;
+        Map<String, HologramDefinition> batch = new LinkedHashMap<>(pending);
+        pending.clear();
+        worker.execute(() -> writeBatch(batch));
+    }
+
+    @Override
+    protected void closeResources() {
+        if (connection == null) return;
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+        connection = null;
+    }
+
+    private void open() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile.getAbsolutePath());
+        try (Statement st = connection.createStatement()) {
+            st.execute("PRAGMA journal_mode=WAL");
+            st.execute("PRAGMA synchronous=NORMAL");
+            st.execute("CREATE TABLE IF NOT EXISTS holograms ("
+                    + "name_key TEXT PRIMARY KEY, name TEXT NOT NULL, world TEXT NOT NULL, "
+                    + "x REAL NOT NULL, y REAL NOT NULL, z REAL NOT NULL, yaw REAL NOT NULL, pitch REAL NOT NULL, "
+                    + "chunk_x INTEGER NOT NULL, chunk_z INTEGER NOT NULL, static INTEGER NOT NULL, "
+                    + "lines TEXT NOT NULL, entities TEXT NOT NULL)");
+            st.execute("CREATE INDEX IF NOT EXISTS idx_holograms_chunk ON holograms (world, chunk_x, chunk_z)");
+            try (ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM holograms")) {
+                if (rs.next() && rs.getLong(1) == 0) importLegacyYaml();
+            }
+        }
+    }
+
+    private void importLegacyYaml() {
+        if (!legacyYaml.exists()) return;
+        ConfigurationSection root = YamlConfiguration.loadConfiguration(legacyYaml).getConfigurationSection("holograms");
+        if (root == null) return;
+        Map<String, HologramDefinition> batch = new LinkedHashMap<>();
+        for (String key : root.getKeys(false)) {
+            ConfigurationSection section = root.getConfigurationSection(key);
+            if (section == null) continue;
+            try {
+                HologramDefinition def = YamlHologramCodec.read(key, section);
+                batch.put(def.key(), def);
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning(e.getMessage());
+            }
+        }
+        if (batch.isEmpty()) return;
+        writeBatch(batch);
+        plugin.getLogger().info("Imported " + batch.size() + " hologram(s) from " + legacyYaml.getName() + " into " + dbFile.getName() + ".");
+    }
+
+    private void writeBatch(Map<String, HologramDefinition> batch) {
+        long start = System.nanoTime();
+        long bytes = 0L;
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement upsert = connection.prepareStatement(UPSERT);
+                 PreparedStatement delete = connection.prepareStatement("DELETE FROM holograms WHERE name_key = ?")) {
+                for (Map.Entry<String, HologramDefinition> e : batch.entrySet()) {
+                    HologramDefinition def = e.getValue();
+                    if (def == null) {
+                        delete.setString(1, e.getKey());
+                        delete.addBatch();
+                        bytes += e.getKey().length();
+                        continue;
+                    }
+                    upsert.setString(1, def.key());
+                    upsert.setInt(2, def.chunkX());
+                    upsert.setInt(3, def.chunkZ());
+                    upsert.setString(4, def.name());
+                    upsert.setString(5, def.world());
+                    upsert.setDouble(6, def.x());
+                    upsert.setDouble(7, def.y());
+                    upsert.setDouble(8, def.z());
+                    upsert.setFloat(9, def.yaw());
+                    upsert.setFloat(10, def.pitch());
+                    upsert.setBoolean(11, def.staticRotation());
+                    String lines = joinLines(def.lines());
+                    String ids = joinIds(def.entityIds());
+                    upsert.setString(12, lines);
+                    upsert.setString(13, ids);
+                    // Column payload only; SQLite's own page and index overhead is not counted
+                    bytes += def.key().length() + def.name().length() + def.world().length() + lines.length() + ids.length() + 41L;
+                    upsert.addBatch();
+                }
+                // Keys are unique within a batch, so running deletes first cannot undo an upsert
+                delete.executeBatch();
+                upsert.executeBatch();
+            }
+            connection.commit();
+            metrics.saved(System.nanoTime() - start, bytes);
+        } catch (SQLException e) {
+            plugin.getLogger().severe("Failed to save holograms.db: " + e.getMessage());
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+        } finally {
+            try {
+                connection.setAutoCommit(true);
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    // Worker thread only
+    private List<HologramDefinition> queryRows(String sql, List<Object> params) throws SQLException {
+        List<HologramDefinition> rows = new ArrayList<>();
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) ps.setObject(i + 1, params.get(i));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(new HologramDefinition(rs.getString("name"), rs.getString("world"),
+                            rs.getDouble("x"), rs.getDouble("y"), rs.getDouble("z"),
+                            rs.getFloat("yaw"), rs.getFloat("pitch"),
+                            splitLines(rs.getString("lines")), rs.getBoolean("static"),
+                            splitIds(rs.getString("entities"))));
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Each line ends with a newline so empty lines round-trip; backslashes and newlines inside a line are escaped
+    private static String joinLines(List<String> lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            for (int j = 0; j < line.length(); j++) {
+                char c = line.charAt(j);
+                if (c == '\\') sb.append("\\\\");
+                else if (c == '\n') sb.append("\\n");
+                else sb.append(c);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static List<String> splitLines(String raw) {
+        List<String> lines = new ArrayList<>();
+        if (raw == null) return lines;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '\\' && i + 1 < raw.length()) {
+                char next = raw.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next);
+            } else if (c == '\n') {
+                lines.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        return lines;
+    }
+
+    private static String joinIds(List<UUID> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 37);
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(ids.get(i));
+        }
+        return sb.toString();
+    }
+
+    private static List<UUID> splitIds(String raw) {
+        List<UUID> ids = new ArrayList<>();
+        if (raw == null || raw.isEmpty()) return ids;
+        for (String s : raw.split(",")) {
+            try {
+                ids.add(UUID.fromString(s));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return ids;
+    }
+}
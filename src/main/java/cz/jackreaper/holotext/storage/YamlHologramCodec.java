@@ -0,0 +1,251 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes {@link HologramDefinition}s in the {@code holograms.yml} layout.
+ *
+ * <p>Only touches detached configuration objects, so it is safe to use off the main thread.
+ */
+public final class YamlHologramCodec {
+    // Entries per decode task when decoding on an executor
+    private static final int DECODE_BATCH = 256;
+
+    private record Decoded(HologramDefinition def, String error) {}
+
+    private YamlHologramCodec() {}
+
+    /**
+     * Parse a {@code holograms.yml} file and decode its entries on the calling thread.
+     * @param file data file
+     * @param logger receives decode warnings and parse errors
+     * @return decoded definitions by key, in file order; empty if the file is missing or unparseable
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, HologramDefinition> readFile(Path file, Logger logger) throws IOException {
+        return readFile(file, logger, Runnable::run);
+    }
+
+    /**
+     * Parse a {@code holograms.yml} file and decode its entries in parallel on {@code executor}.
+     *
+     * <p>The document is read with SnakeYAML directly into plain maps, skipping the
+     * {@code YamlConfiguration} section tree and its per-field path lookups. Entries are
+     * then decoded independently, in batches. Decode warnings are logged in file order.
+     * @param file data file
+     * @param logger receives decode warnings and parse errors
+     * @param executor runs the decode batches; the calling thread waits for them
+     * @return decoded definitions by key, in file order; empty if the file is missing or unparseable
+     * @throws IOException if the file cannot be read
+     */
+    public static Map<String, HologramDefinition> readFile(Path file, Logger logger, Executor executor) throws IOException {
+        if (!Files.exists(file)) return new LinkedHashMap<>();
+        try {
+            Map<String, HologramDefinition> result = readFileStrict(file, logger, executor);
+            return result != null ? result : new LinkedHashMap<>();
+        } catch (YAMLException e) {
+            logger.severe("Could not parse " + file.getFileName() + ": " + e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Like {@link #readFile(Path, Logger)}, but tells a broken or half-written file apart from an empty one.
+     * @param file data file
+     * @param logger receives decode warnings
+     * @return decoded definitions by key, in file order; {@code null} if there is no {@code holograms} section
+     * @throws IOException if the file is missing or cannot be read
+     * @throws YAMLException if the file is not valid YAML
+     */
+    public static Map<String, HologramDefinition> readFileStrict(Path file, Logger logger) throws IOException {
+        return readFileStrict(file, logger, Runnable::run);
+    }
+
+    /**
+     * Like {@link #readFile(Path, Logger, Executor)}, but tells a broken or half-written file apart from an empty one.
+     * @param file data file
+     * @param logger receives decode warnings
+     * @param executor runs the decode batches; the calling thread waits for them
+     * @return decoded definitions by key, in file order; {@code null} if there is no {@code holograms} section
+     * @throws IOException if the file is missing or cannot be read
+     * @throws YAMLException if the file is not valid YAML
+     */
+    public static Map<String, HologramDefinition> readFileStrict(Path file, Logger logger, Executor executor) throws IOException {
+        LoaderOptions options = new LoaderOptions();
+        // Match YamlConfiguration: large data files must not trip SnakeYAML's default limits
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        options.setMaxAliasesForCollections(Integer.MAX_VALUE);
+        Object doc;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            doc = new Yaml(options).load(reader);
+        }
+        if (!(doc instanceof Map<?, ?> root) || !(root.get("holograms") instanceof Map<?, ?> entries)) return null;
+        Map<String, HologramDefinition> result = new LinkedHashMap<>();
+        for (Decoded d : decodeAll(new ArrayList<>(entries.entrySet()), executor)) {
+            if (d == null) continue;
+            if (d.error() != null) logger.warning(d.error());
+            else result.put(d.def().key(), d.def());
+        }
+        return result;
+    }
+
+    private static List<Decoded> decodeAll(List<? extends Map.Entry<?, ?>> entries, Executor executor) {
+        List<CompletableFuture<List<Decoded>>> batches = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += DECODE_BATCH) {
+            List<? extends Map.Entry<?, ?>> batch = entries.subList(from, Math.min(entries.size(), from + DECODE_BATCH));
+            batches.add(CompletableFuture.supplyAsync(() -> {
+                List<Decoded> out = new ArrayList<>(batch.size());
+                for (Map.Entry<?, ?> e : batch) out.add(decode(String.valueOf(e.getKey()), e.getValue()));
+                return out;
+            }, executor));
+        }
+        List<Decoded> decoded = new ArrayList<>(entries.size());
+        for (CompletableFuture<List<Decoded>> batch : batches) decoded.addAll(batch.join());
+        return decoded;
+    }
+
+    private static Decoded decode(String key, Object value) {
+        if (!(value instanceof Map<?, ?> section)) return null;
+        try {
+            return new Decoded(read(key, section), null);
+        } catch (IllegalArgumentException e) {
+            return new Decoded(null, e.getMessage());
+        }
+    }
+
+    /**
+     * Write a definition as a child section of {@code root}, keyed by its lower-case name.
+     * @param root the {@code holograms} section
+     * @param def definition to write
+     */
+    public static void write(ConfigurationSection root, HologramDefinition def) {
+        ConfigurationSection s = root.createSection(def.key());
+        s.set("world", def.world());
+        s.set("x", def.x());
+        s.set("y", def.y());
+        s.set("z", def.z());
+        s.set("yaw", def.yaw());
+        s.set("pitch", def.pitch());
+        s.set("lines", def.lines());
+        s.set("static", def.staticRotation());
+        List<String> ids = new ArrayList<>(def.entityIds().size());
+        for (UUID id : def.entityIds()) ids.add(id.toString());
+        s.set("entities", ids);
+    }
+
+    /**
+     * Serialize a full {@code holograms.yml} document.
+     * @param defs definitions to write, in order
+     * @return YAML text
+     */
+    public static String writeString(Collection<HologramDefinition> defs) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        ConfigurationSection root = yaml.createSection("holograms");
+        for (HologramDefinition def : defs) {
+            write(root, def);
+        }
+        return yaml.saveToString();
+    }
+
+    /**
+     * Write a full {@code holograms.yml} document with a temp file and an atomic rename.
+     * @param file target file
+     * @param defs definitions to write, in order
+     * @throws IOException if writing fails
+     */
+    public static void writeFile(Path file, Collection<HologramDefinition> defs) throws IOException {
+        YamlHologramStore.writeAtomically(file, writeString(defs).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a single hologram section.
+     * @param key section key (hologram name)
+     * @param s hologram section
+     * @return decoded definition
+     * @throws IllegalArgumentException if a required field is missing
+     */
+    public static HologramDefinition read(String key, ConfigurationSection s) {
+        String worldName = s.getString("world");
+        if (worldName == null) {
+            throw new IllegalArgumentException("Skipping hologram '" + key + "' due to missing world 'null'.");
+        }
+        if (!s.contains("static")) {
+            throw new IllegalArgumentException("Skipping hologram '" + key + "' because 'static' flag is missing. Update it via command to set static/dynamic.");
+        }
+        return new HologramDefinition(key, worldName,
+                s.getDouble("x"), s.getDouble("y"), s.getDouble("z"),
+                (float) s.getDouble("yaw", 0.0), (float) s.getDouble("pitch", 0.0),
+                s.getStringList("lines"), s.getBoolean("static"),
+                parseEntityIds(s.getStringList("entities")));
+    }
+
+    /**
+     * Decode a single hologram entry parsed into a plain map.
+     * @param key entry key (hologram name)
+     * @param s entry fields
+     * @return decoded definition
+     * @throws IllegalArgumentException if a required field is missing
+     */
+    public static HologramDefinition read(String key, Map<?, ?> s) {
+        Object worldName = s.get("world");
+        if (worldName == null) {
+            throw new IllegalArgumentException("Skipping hologram '" + key + "' due to missing world 'null'.");
+        }
+        if (!s.containsKey("static")) {
+            throw new IllegalArgumentException("Skipping hologram '" + key + "' because 'static' flag is missing. Update it via command to set static/dynamic.");
+        }
+        return new HologramDefinition(key, worldName.toString(),
+                number(s.get("x")), number(s.get("y")), number(s.get("z")),
+                (float) number(s.get("yaw")), (float) number(s.get("pitch")),
+                strings(s.get("lines")), Boolean.TRUE.equals(s.get("static")),
+                parseEntityIds(strings(s.get("entities"))));
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : 0.0;
+    }
+
+    // Same coercion as ConfigurationSection#getStringList: scalars become strings, anything else is dropped
+    private static List<String> strings(Object value) {
+        if (!(value instanceof List<?> list)) return new ArrayList<>();
+        List<String> out = new ArrayList<>(list.size());
+        for (Object o : list) {
+            if (o instanceof String || o instanceof Number || o instanceof Boolean || o instanceof Character) {
+                out.add(String.valueOf(o));
+            }
+        }
+        return out;
+    }
+
+    private static List<UUID> parseEntityIds(List<String> raw) {
+        List<UUID> ids = new ArrayList<>(raw.size());
+        for (String s : raw) {
+            try {
+                ids.add(UUID.fromString(s));
+            } catch (IllegalArgumentException ignored) {
+                // Stale or hand-edited entry; the entity will be treated as missing
+            }
+        }
+        return ids;
+    }
+}
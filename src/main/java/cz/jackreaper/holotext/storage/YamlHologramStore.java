@@ -0,0 +1,288 @@
+package cz.jackreaper.holotext.storage;
+
+import cz.jackreaper.holotext.hologram.HologramDefinition;
+import org.bukkit.plugin.Plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+/**
+ * {@link HologramStore} backed by {@code holograms.yml}.
+ *
+ * <p>Mutations only update an in-memory snapshot and mark it dirty (main thread).
+ * Once per flush interval, a dirty snapshot is copied and serialized on a single
+ * worker thread, then written to a temp file and atomically renamed over the data
+ * file. Any number of changes within one interval result in a single write.
+ *
+ * <p>When a {@link HologramJournal} is attached, the store instead appends one compact
+ * record per change each interval and only rewrites the YAML snapshot (then truncates
+ * the journal) once the journal grows past the compaction threshold.
+ *
+ * <p>Loading reads and decodes the file (and replays the journal) on the worker thread,
+ * so it never races a write in progress; entries are decoded in parallel on the store's
+ * decode pool.
+ */
+public class YamlHologramStore extends AsyncHologramStore {
+    private final File dataFile;
+    private final Map<String, HologramDefinition> snapshot = new LinkedHashMap<>();
+    private final List<byte[]> pendingRecords = new ArrayList<>();
+    private HologramJournal journal;
+    private long compactThreshold;
+    private long journalBytes;
+    private boolean dirty;
+    // Changes recorded while an async load is in flight (null value = delete); null when not loading
+    private Map<String, HologramDefinition> changedDuringLoad;
+    // Changes not yet handed to the worker (null value = delete); kept across a reload of the file
+    private final Map<String, HologramDefinition> unflushed = new HashMap<>();
+    // CRC32 of the two most recent files written by this store, so the file watcher can skip them
+    private final long[] recentWrites = {-1L, -1L};
+
+    /**
+     * @param plugin owning plugin (scheduler and logger)
+     * @param dataFile target YAML file
+     */
+    public YamlHologramStore(Plugin plugin, File dataFile) {
+        super(plugin, "HoloText-Persistence");
+        this.dataFile = dataFile;
+    }
+
+    /**
+     * Switch to journal mode: changes are appended to {@code journal} and folded into
+     * the YAML snapshot by a background compaction. Call before {@link #start(long)}.
+     * @param journal journal next to the data file
+     * @param compactThresholdBytes journal size that triggers compaction
+     */
+    public void useJournal(HologramJournal journal, long compactThresholdBytes) {
+        this.journal = journal;
+        this.compactThreshold = Math.max(1L, compactThresholdBytes);
+        this.journalBytes = journal.size();
+    }
+
+    /**
+     * Read {@code holograms.yml} (plus the journal tail, if enabled) into the snapshot.
+     * Entries in other worlds stay in the snapshot so they are not dropped on save.
+     */
+    @Override
+    public CompletableFuture<Collection<HologramDefinition>> loadAsync(Collection<String> worlds) {
+        changedDuringLoad = new HashMap<>(unflushed);
+        return onWorkerAsync(this::decode)
+                .thenApply(loaded -> install(loaded != null ? loaded : new LinkedHashMap<>(), worlds));
+    }
+
+    /**
+     * Re-read the file after it was edited outside the plugin. Changes made in game that were
+     * not flushed yet are kept on top of the edited file.
+     * @param worlds names of loaded worlds
+     * @return future completed on the main thread with the definitions in loaded worlds, or with
+     *         {@code null} (leaving the snapshot untouched) if the file is broken or half-written
+     */
+    public CompletableFuture<Collection<HologramDefinition>> reloadAsync(Collection<String> worlds) {
+        changedDuringLoad = new HashMap<>(unflushed);
+        return onWorkerAsync(this::decodeStrict).thenApply(loaded -> {
+            if (loaded == null) {
+                changedDuringLoad = null;
+                return null;
+            }
+            return install(loaded, worlds);
+        });
+    }
+
+    // Worker thread: queued behind pending writes and journal appends
+    private Map<String, HologramDefinition> decodeStrict() throws IOException {
+        Map<String, HologramDefinition> loaded = YamlHologramCodec.readFileStrict(dataFile.toPath(), plugin.getLogger(), decoders);
+        if (loaded == null) {
+            plugin.getLogger().warning(dataFile.getName() + " has no 'holograms' section; external edit not applied.");
+            return null;
+        }
+        recover(loaded);
+        return loaded;
+    }
+
+    // Worker thread: queued behind pending writes and journal appends
+    private Map<String, HologramDefinition> decode() throws IOException {
+        Map<String, HologramDefinition> loaded = YamlHologramCodec.readFile(dataFile.toPath(), plugin.getLogger(), decoders);
+        recover(loaded);
+        return loaded;
+    }
+
+    // Main thread: replace the snapshot, keeping changes made while the file was being read
+    private Collection<HologramDefinition> install(Map<String, HologramDefinition> loaded, Collection<String> worlds) {
+        boolean changed = false;
+        if (changedDuringLoad != null) {
+            for (Map.Entry<String, HologramDefinition> e : changedDuringLoad.entrySet()) {
+                if (e.getValue() == null) loaded.remove(e.getKey());
+                else loaded.put(e.getKey(), e.getValue());
+            }
+            changed = !changedDuringLoad.isEmpty();
+            changedDuringLoad = null;
+        }
+        snapshot.clear();
+        snapshot.putAll(loaded);
+        if (journal != null) {
+            // Records for changes made during the load are still pending and will be appended
+            journalBytes = journal.size();
+        } else {
+            dirty = changed;
+        }
+        List<HologramDefinition> result = new ArrayList<>(loaded.size());
+        for (HologramDefinition def : loaded.values()) {
+            if (worlds.contains(def.world())) {
+                result.add(def);
+            } else {
+                plugin.getLogger().warning("Skipping hologram '" + def.name() + "' due to missing world '" + def.world() + "'.");
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void upsert(HologramDefinition def) {
+        if (changedDuringLoad != null) changedDuringLoad.put(def.key(), def);
+        unflushed.put(def.key(), def);
+        HologramDefinition previous = snapshot.put(def.key(), def);
+        if (journal == null) {
+            dirty = true;
+            return;
+        }
+        byte[] record = HologramJournal.encodeChange(previous, def);
+        if (record != null) pendingRecords.add(record);
+    }
+
+    @Override
+    public void delete(String key) {
+        if (changedDuringLoad != null) changedDuringLoad.put(key, null);
+        if (snapshot.remove(key) == null) return;
+        unflushed.put(key, null);
+        if (journal == null) {
+            dirty = true;
+        } else {
+            pendingRecords.add(HologramJournal.encodeDelete(key));
+        }
+    }
+
+    @Override
+    protected void flush() {
+        if (journal != null) {
+            flushJournal();
+            return;
+        }
+        if (!dirty) return;
+        List<HologramDefinition> copy = List.copyOf(snapshot.values());
+        dirty = false;
+        unflushed.clear();
+        worker.execute(() -> write(copy));
+    }
+
+    @Override
+    protected void closeResources() {
+        if (journal != null) journal.close();
+    }
+
+    private void recover(Map<String, HologramDefinition> defs) {
+        if (journal == null) return;
+        try {
+            int applied = journal.replay(defs, plugin.getLogger());
+            if (applied > 0) {
+                plugin.getLogger().info("Replayed " + applied + " hologram journal record(s).");
+            }
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to replay holograms.journal: " + e.getMessage());
+        }
+    }
+
+    private void flushJournal() {
+        if (!pendingRecords.isEmpty()) {
+            List<byte[]> records = List.copyOf(pendingRecords);
+            pendingRecords.clear();
+            unflushed.clear();
+            long bytes = 0L;
+            for (byte[] r : records) bytes += 8 + r.length;
+            journalBytes += bytes;
+            long appended = bytes;
+            worker.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    journal.append(records);
+                    metrics.saved(System.nanoTime() - start, appended);
+                } catch (IOException e) {
+                    plugin.getLogger().severe("Failed to append to holograms.journal: " + e.getMessage());
+                }
+            });
+        }
+        if (journalBytes < compactThreshold) return;
+        // Every journaled change so far is contained in this copy, so the journal can be dropped after it is written
+        List<HologramDefinition> copy = List.copyOf(snapshot.values());
+        journalBytes = 0L;
+        worker.execute(() -> {
+            if (!write(copy)) return;
+            try {
+                journal.truncate();
+            } catch (IOException e) {
+                plugin.getLogger().severe("Failed to compact holograms.journal: " + e.getMessage());
+            }
+        });
+    }
+
+    private boolean write(List<HologramDefinition> defs) {
+        long start = System.nanoTime();
+        try {
+            byte[] content = YamlHologramCodec.writeString(defs).getBytes(StandardCharsets.UTF_8);
+            rememberWrite(checksum(content));
+            writeAtomically(dataFile.toPath(), content);
+            metrics.saved(System.nanoTime() - start, content.length);
+            return true;
+        } catch (IOException e) {
+            plugin.getLogger().severe("Failed to save holograms.yml: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @param checksum CRC32 of a file's content
+     * @return true if this store wrote that content in one of its two most recent writes
+     */
+    synchronized boolean isOwnWrite(long checksum) {
+        return recentWrites[0] == checksum || recentWrites[1] == checksum;
+    }
+
+    // Recorded before the file is replaced, so the watcher never sees the content first
+    private synchronized void rememberWrite(long checksum) {
+        recentWrites[1] = recentWrites[0];
+        recentWrites[0] = checksum;
+    }
+
+    static long checksum(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    /**
+     * Write to a sibling temp file, then rename it over the target so readers never see a partial file.
+     * @param target destination file
+     * @param content full file content
+     * @throws IOException if writing or renaming fails
+     */
+    static void writeAtomically(Path target, byte[] content) throws IOException {
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.write(tmp, content);
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
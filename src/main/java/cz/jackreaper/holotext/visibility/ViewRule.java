@@ -0,0 +1,35 @@
+package cz.jackreaper.holotext.visibility;
+
+import org.bukkit.entity.Player;
+
+import java.util.function.Predicate;
+
+/**
+ * Per-hologram visibility conditions. A player sees the hologram only if every set
+ * condition holds.
+ *
+ * @param viewDistance maximum distance in blocks, or {@code 0} for no distance limit
+ * @param permission required permission, or {@code null}
+ * @param condition additional predicate evaluated on the main thread, or {@code null}
+ */
+public record ViewRule(double viewDistance, String permission, Predicate<Player> condition) {
+
+    /**
+     * @param distance maximum view distance in blocks
+     * @return rule with only a distance limit
+     */
+    public static ViewRule distance(double distance) {
+        return new ViewRule(distance, null, null);
+    }
+
+    /**
+     * @param player viewer (same world as the hologram)
+     * @param distanceSquared squared distance between viewer and hologram base
+     * @return true if the player may see the hologram
+     */
+    boolean allows(Player player, double distanceSquared) {
+        if (viewDistance > 0 && distanceSquared > viewDistance * viewDistance) return false;
+        if (permission != null && !player.hasPermission(permission)) return false;
+        return condition == null || condition.test(player);
+    }
+}
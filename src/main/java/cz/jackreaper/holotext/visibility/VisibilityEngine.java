@@ -0,0 +1,202 @@
+package cz.jackreaper.holotext.visibility;
+
+import cz.jackreaper.holotext.hologram.Hologram;
+import cz.jackreaper.holotext.hologram.HologramManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Per-player hologram visibility built on {@link Player#showEntity}/{@link Player#hideEntity}.
+ *
+ * <p>Holograms without a {@link ViewRule} (and no configured default view distance) are
+ * visible by default and cost nothing here. Entities of managed holograms are spawned
+ * hidden and shown only to players that satisfy the rule. Visibility is recomputed for
+ * one player when they cross a chunk boundary (only holograms in nearby chunks are
+ * checked) and for one hologram when its entities or location change.
+ */
+public class VisibilityEngine {
+    private final Plugin plugin;
+    private final HologramManager manager;
+    private final double defaultViewDistance;
+    private final Map<String, ViewRule> rules = new HashMap<>();
+    // Managed holograms without a distance limit; checked on every update regardless of position
+    private final Set<String> unbounded = new HashSet<>();
+    private final Map<UUID, Set<String>> shown = new HashMap<>();
+    private double maxViewDistance;
+
+    /**
+     * @param plugin owning plugin
+     * @param manager hologram manager used for lookups
+     * @param defaultViewDistance view distance applied to every hologram without a rule ({@code 0} = none)
+     */
+    public VisibilityEngine(Plugin plugin, HologramManager manager, double defaultViewDistance) {
+        this.plugin = plugin;
+        this.manager = manager;
+        this.defaultViewDistance = Math.max(0, defaultViewDistance);
+        this.maxViewDistance = this.defaultViewDistance;
+    }
+
+    /**
+     * @param key lower-case hologram key
+     * @return true if the hologram's entities are hidden by default and shown per player
+     */
+    public boolean isManaged(String key) {
+        return defaultViewDistance > 0 || rules.containsKey(key);
+    }
+
+    /**
+     * @param key lower-case hologram key
+     * @return rule set for the hologram, or {@code null}
+     */
+    public ViewRule getRule(String key) {
+        return rules.get(key);
+    }
+
+    /**
+     * Set or clear the rule of a hologram and re-apply visibility for its entities.
+     * @param holo target hologram
+     * @param rule new rule, or {@code null} to clear
+     */
+    public void setRule(Hologram holo, ViewRule rule) {
+        String key = keyOf(holo);
+        if (rule == null) rules.remove(key);
+        else rules.put(key, rule);
+        recomputeBounds();
+        boolean managed = isManaged(key);
+        for (Entity e : entities(holo)) e.setVisibleByDefault(!managed);
+        if (!managed) {
+            for (Set<String> keys : shown.values()) keys.remove(key);
+            return;
+        }
+        refresh(holo);
+    }
+
+    /**
+     * Re-evaluate a managed hologram for every player in its world. Call after its entities
+     * were respawned or it moved.
+     * @param holo changed hologram
+     */
+    public void refresh(Hologram holo) {
+        String key = keyOf(holo);
+        if (!isManaged(key)) return;
+        World world = holo.getLocation().getWorld();
+        if (world == null) return;
+        ViewRule rule = ruleFor(key);
+        for (Player player : world.getPlayers()) {
+            Set<String> keys = shown.get(player.getUniqueId());
+            if (rule.allows(player, player.getLocation().distanceSquared(holo.getLocation()))) {
+                setShown(player, holo, true);
+                if (keys == null) shown.put(player.getUniqueId(), keys = new HashSet<>());
+                keys.add(key);
+            } else if (keys != null && keys.remove(key)) {
+                setShown(player, holo, false);
+            }
+        }
+    }
+
+    /**
+     * Recompute which managed holograms a player sees from a new position.
+     * @param player viewer
+     * @param loc player's new location
+     */
+    public void update(Player player, Location loc) {
+        Set<String> previous = shown.getOrDefault(player.getUniqueId(), Collections.emptySet());
+        if (maxViewDistance <= 0 && unbounded.isEmpty() && previous.isEmpty()) return;
+        World world = loc.getWorld();
+        Set<String> next = new HashSet<>();
+        if (maxViewDistance > 0) {
+            int radius = (int) Math.ceil(maxViewDistance / 16.0);
+            for (Hologram holo : manager.inChunkRadius(world, loc.getBlockX() >> 4, loc.getBlockZ() >> 4, radius)) {
+                consider(player, loc, holo, next);
+            }
+        }
+        for (String key : unbounded) {
+            manager.get(key).ifPresent(holo -> consider(player, loc, holo, next));
+        }
+        for (String key : next) {
+            if (!previous.contains(key)) manager.get(key).ifPresent(holo -> setShown(player, holo, true));
+        }
+        for (String key : previous) {
+            if (!next.contains(key)) manager.get(key).ifPresent(holo -> setShown(player, holo, false));
+        }
+        if (next.isEmpty()) shown.remove(player.getUniqueId());
+        else shown.put(player.getUniqueId(), next);
+    }
+
+    /**
+     * Drop all state for a player that left.
+     * @param player departing player
+     */
+    public void forget(Player player) {
+        shown.remove(player.getUniqueId());
+    }
+
+    /**
+     * Drop all state for a deleted hologram.
+     * @param key lower-case hologram key
+     */
+    public void forgetHologram(String key) {
+        if (rules.remove(key) != null) recomputeBounds();
+        for (Iterator<Set<String>> it = shown.values().iterator(); it.hasNext(); ) {
+            Set<String> keys = it.next();
+            keys.remove(key);
+            if (keys.isEmpty()) it.remove();
+        }
+    }
+
+    private void consider(Player player, Location loc, Hologram holo, Set<String> into) {
+        String key = keyOf(holo);
+        if (!isManaged(key) || holo.getLocation().getWorld() != loc.getWorld()) return;
+        if (ruleFor(key).allows(player, loc.distanceSquared(holo.getLocation()))) into.add(key);
+    }
+
+    private void setShown(Player player, Hologram holo, boolean show) {
+        for (Entity e : entities(holo)) {
+            if (show) player.showEntity(plugin, e);
+            else player.hideEntity(plugin, e);
+        }
+    }
+
+    private List<Entity> entities(Hologram holo) {
+        List<Entity> list = new ArrayList<>(holo.getEntityIds().size());
+        for (UUID id : holo.getEntityIds()) {
+            Entity e = plugin.getServer().getEntity(id);
+            if (e != null) list.add(e);
+        }
+        return list;
+    }
+
+    private ViewRule ruleFor(String key) {
+        ViewRule rule = rules.get(key);
+        return rule != null ? rule : ViewRule.distance(defaultViewDistance);
+    }
+
+    private void recomputeBounds() {
+        double max = defaultViewDistance;
+        unbounded.clear();
+        for (Map.Entry<String, ViewRule> e : rules.entrySet()) {
+            double d = e.getValue().viewDistance();
+            if (d <= 0) unbounded.add(e.getKey());
+            else max = Math.max(max, d);
+        }
+        maxViewDistance = max;
+    }
+
+    private static String keyOf(Hologram holo) {
+        return holo.getName().toLowerCase(Locale.ROOT);
+    }
+}
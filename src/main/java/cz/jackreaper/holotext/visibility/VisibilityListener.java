@@ -0,0 +1,62 @@
+package cz.jackreaper.holotext.visibility;
+
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Feeds player chunk crossings into the {@link VisibilityEngine}. Moves within a chunk
+ * return after a couple of integer comparisons.
+ */
+public class VisibilityListener implements Listener {
+    private final VisibilityEngine engine;
+
+    /**
+     * @param engine engine to notify
+     */
+    public VisibilityListener(VisibilityEngine engine) {
+        this.engine = engine;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (crossesChunk(event.getFrom(), event.getTo())) {
+            engine.update(event.getPlayer(), event.getTo());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        if (crossesChunk(event.getFrom(), event.getTo())) {
+            engine.update(event.getPlayer(), event.getTo());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        engine.update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        engine.update(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        engine.forget(event.getPlayer());
+    }
+
+    private static boolean crossesChunk(Location from, Location to) {
+        if (to == null) return false;
+        return (from.getBlockX() >> 4) != (to.getBlockX() >> 4)
+                || (from.getBlockZ() >> 4) != (to.getBlockZ() >> 4)
+                || from.getWorld() != to.getWorld();
+    }
+}